@@ -0,0 +1,85 @@
+package com.yourco.qrcheckin.bench;
+
+import com.yourco.qrcheckin.QrCheckinApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크용 앱 컨텍스트. 임시 디렉토리의 새 SQLite 파일로 웹 서버 없이 띄운다.
+ * 부하 테스트(src/loadtest)는 startServer 로 임의 포트에 웹 서버까지 띄워 쓴다.
+ */
+public final class BenchApp implements AutoCloseable {
+
+    private final Path dir;
+    private final ConfigurableApplicationContext context;
+
+    private BenchApp(Path dir, ConfigurableApplicationContext context) {
+        this.dir = dir;
+        this.context = context;
+    }
+
+    public static BenchApp start(String... extraProperties) {
+        return start(WebApplicationType.NONE, extraProperties);
+    }
+
+    public static BenchApp startServer(String... extraProperties) {
+        List<String> props = new ArrayList<>(List.of("server.port=0"));
+        props.addAll(List.of(extraProperties));
+        return start(WebApplicationType.SERVLET, props.toArray(String[]::new));
+    }
+
+    private static BenchApp start(WebApplicationType webType, String... extraProperties) {
+        try {
+            Path dir = Files.createTempDirectory("qrcheckin-bench");
+            List<String> props = new ArrayList<>(List.of(
+                    "app.sqlite.path=" + dir.resolve("attendance.db"),
+                    "app.upload.path=" + dir.resolve("uploads"),
+                    "app.security.phone-hash-salt=bench-salt",
+                    "logging.level.root=WARN"
+            ));
+            props.addAll(List.of(extraProperties));
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(QrCheckinApplication.class)
+                    .web(webType)
+                    .properties(props.toArray(String[]::new))
+                    .run();
+            return new BenchApp(dir, context);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public Path dir() {
+        return dir;
+    }
+
+    /** startServer 로 띄운 경우의 웹 서버 포트 */
+    public int port() {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+}
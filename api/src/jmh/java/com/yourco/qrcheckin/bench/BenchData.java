@@ -0,0 +1,114 @@
+package com.yourco.qrcheckin.bench;
+
+import com.yourco.qrcheckin.common.util.HashingService;
+import com.yourco.qrcheckin.participant.ParticipantRepository;
+import com.yourco.qrcheckin.participant.ParticipantRoster;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 데이터 적재. 리포지토리를 거치지 않고 batchUpdate 로 직접 넣는다.
+ * - 참가자: 한국 이름 분포(성씨 편중), 010 전화번호, 30개 구역
+ * - 세션: 기준일(2026-01-04)부터 거꾸로 매주 주일미사 (years 년치, 모두 CLOSED)
+ * - 출석: 세션마다 참가자의 1/4 (최대 2000명)
+ */
+public final class BenchData {
+
+    public static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 4);
+
+    private static final String[] SURNAMES = {
+        "김", "김", "김", "이", "이", "박", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황"
+    };
+    private static final String[] SYLLABLES = {
+        "민", "서", "지", "현", "수", "영", "준", "하", "윤", "은", "도", "예", "성", "진", "우", "연", "재", "혜", "경", "호"
+    };
+    private static final String[] BAPTISMAL_NAMES = {
+        "", "", "요한", "마리아", "베드로", "안나", "바오로", "루치아", "미카엘", "데레사", "프란치스코", "엘리사벳"
+    };
+
+    private BenchData() {
+    }
+
+    public static String name(int i) {
+        return SURNAMES[i % SURNAMES.length]
+                + SYLLABLES[(i / SURNAMES.length) % SYLLABLES.length]
+                + SYLLABLES[(i / (SURNAMES.length * SYLLABLES.length)) % SYLLABLES.length];
+    }
+
+    public static String phone(int i) {
+        return String.format("010%08d", i);
+    }
+
+    public static void seedParticipants(BenchApp app, int count) {
+        HashingService hashing = app.bean(HashingService.class);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String phone = phone(i);
+            rows.add(new Object[]{
+                name(i), phone, hashing.sha256(phone), phone.substring(7),
+                BAPTISMAL_NAMES[i % BAPTISMAL_NAMES.length], (i % 30 + 1) + "구역", "2024-01-01T00:00:00+09:00"
+            });
+        }
+        inTransaction(app, jdbc -> jdbc.batchUpdate(
+                "INSERT INTO participants(name, phone, phone_hash, phone_last4, baptismal_name, district, created_at) " +
+                        "VALUES(?,?,?,?,?,?,?)", rows));
+
+        // 시작 시 적재된 명단을 다시 읽는다
+        app.bean(ParticipantRoster.class).load(app.bean(ParticipantRepository.class).findAll());
+    }
+
+    /**
+     * 과거 세션과 출석 기록. seedParticipants 이후에 호출.
+     * @return 만든 세션 수
+     */
+    public static int seedHistory(BenchApp app, int years) {
+        JdbcTemplate jdbc = app.bean(JdbcTemplate.class);
+        List<Long> ids = jdbc.queryForList("SELECT id FROM participants ORDER BY id", Long.class);
+        int perSession = Math.min(ids.size() / 4, 2000);
+        int weeks = years * 52;
+
+        for (int w = 1; w <= weeks; w++) {
+            LocalDate date = BASE_DATE.minusWeeks(w);
+            String sessionId = date + "-주일미사";
+            String title = "주일미사";
+            String code = String.format("H%07d", w);
+            int offset = (w * 7919) % Math.max(1, ids.size());
+
+            List<Object[]> rows = new ArrayList<>(perSession);
+            for (int k = 0; k < perSession; k++) {
+                int idx = (offset + k * 4) % ids.size();
+                String phone = phone(idx);
+                rows.add(new Object[]{
+                    sessionId, title, ids.get(idx), name(idx), phone, phone.substring(7),
+                    date + " 10:" + String.format("%02d", k % 60), "127.0.0.1", "bench"
+                });
+            }
+
+            inTransaction(app, tx -> {
+                tx.update("INSERT INTO sessions(id, title, session_date, starts_at, ends_at, token_hash, short_code, status, created_at) " +
+                                "VALUES(?,?,?,?,?,?,?,?,?)",
+                        sessionId, title, date.toString(), date + "T00:00:00", date + "T23:59:59",
+                        "-", code, "CLOSED", date + "T00:00:00+09:00");
+                return tx.batchUpdate(
+                        "INSERT OR IGNORE INTO attendances(session_id, session_title, participant_id, name, phone, phone_last4, checked_in_at, ip, user_agent) " +
+                                "VALUES(?,?,?,?,?,?,?,?,?)", rows);
+            });
+        }
+        return weeks;
+    }
+
+    private interface JdbcWork {
+        Object run(JdbcTemplate jdbc);
+    }
+
+    private static void inTransaction(BenchApp app, JdbcWork work) {
+        JdbcTemplate jdbc = app.bean(JdbcTemplate.class);
+        new TransactionTemplate(app.bean(PlatformTransactionManager.class))
+                .execute(status -> work.run(jdbc));
+    }
+}
@@ -0,0 +1,106 @@
+package com.yourco.qrcheckin.bench;
+
+import com.yourco.qrcheckin.attendance.AttendanceService;
+import com.yourco.qrcheckin.attendance.model.CheckinRequest;
+import com.yourco.qrcheckin.attendance.model.CheckinResult;
+import com.yourco.qrcheckin.common.util.HashingService;
+import com.yourco.qrcheckin.participant.ParticipantRepository;
+import com.yourco.qrcheckin.session.SessionService;
+import com.yourco.qrcheckin.session.model.SessionCreateRequest;
+import com.yourco.qrcheckin.session.model.SessionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 체크인 부하에서 플랫폼 스레드 풀(Tomcat 기본 200) vs 가상 스레드 비교.
+ * 한 번의 호출 = 새 세션에 참가자 CROWD명이 동시에 체크인.
+ * 가상 스레드 모드는 앱도 spring.threads.virtual.enabled=true 로 띄워 JDBC 가드가 적용된 상태로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CheckinConcurrencyBenchmark {
+
+    private static final int CROWD = 400;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private BenchApp app;
+    private AttendanceService attendance;
+    private SessionService sessions;
+    private ExecutorService executor;
+    private SessionResponse session;
+    private int sessionSeq;
+
+    private final long[] participantIds = new long[CROWD];
+    private final String[] phones = new String[CROWD];
+
+    @Setup(Level.Trial)
+    public void startApp() {
+        boolean virtual = threads.equals("virtual");
+        app = BenchApp.start("spring.threads.virtual.enabled=" + virtual);
+        attendance = app.bean(AttendanceService.class);
+        sessions = app.bean(SessionService.class);
+
+        ParticipantRepository participants = app.bean(ParticipantRepository.class);
+        HashingService hashing = app.bean(HashingService.class);
+        for (int i = 0; i < CROWD; i++) {
+            phones[i] = String.format("010%08d", i);
+            participantIds[i] = participants.insert("참가자" + i, phones[i], hashing.sha256(phones[i]),
+                    phones[i].substring(7), "", (i % 10 + 1) + "구역");
+        }
+
+        executor = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200);
+    }
+
+    @Setup(Level.Invocation)
+    public void newSession() {
+        session = sessions.createSession(new SessionCreateRequest("벤치 미사 " + (sessionSeq++), "2026-01-04"));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApp() {
+        executor.shutdownNow();
+        app.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CROWD)
+    public int crowdCheckin() throws Exception {
+        List<Future<CheckinResult>> results = new ArrayList<>(CROWD);
+        for (int i = 0; i < CROWD; i++) {
+            CheckinRequest req = new CheckinRequest(session.id(), session.shortCode(), participantIds[i], phones[i]);
+            results.add(executor.submit(() -> attendance.checkin(req)));
+        }
+        int ok = 0;
+        for (Future<CheckinResult> f : results) {
+            if (f.get().ok()) ok++;
+        }
+        return ok;
+    }
+}
@@ -0,0 +1,89 @@
+package com.yourco.qrcheckin.bench;
+
+import com.yourco.qrcheckin.attendance.AttendanceService;
+import com.yourco.qrcheckin.attendance.model.CheckinRequest;
+import com.yourco.qrcheckin.attendance.model.CheckinResult;
+import com.yourco.qrcheckin.participant.ParticipantRepository;
+import com.yourco.qrcheckin.participant.model.Participant;
+import com.yourco.qrcheckin.session.SessionService;
+import com.yourco.qrcheckin.session.model.SessionCreateRequest;
+import com.yourco.qrcheckin.session.model.SessionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AttendanceService.checkin 한 건의 지연 (단일 스레드).
+ * 배치 대기 시간(window-ms)은 0으로 두어 서비스/DB 경로 자체만 잰다.
+ * 참가자를 한 바퀴 다 쓰면 새 세션을 만들어 항상 "새 출석" 경로를 탄다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class CheckinServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int participants;
+
+    @Param({"3"})
+    public int years;
+
+    private BenchApp app;
+    private AttendanceService attendance;
+    private SessionService sessions;
+    private long[] ids;
+    private SessionResponse session;
+    private int cursor;
+    private int sessionSeq;
+
+    @Setup(Level.Trial)
+    public void startApp() {
+        app = BenchApp.start("app.attendance.batch.window-ms=0");
+        BenchData.seedParticipants(app, participants);
+        BenchData.seedHistory(app, years);
+        attendance = app.bean(AttendanceService.class);
+        sessions = app.bean(SessionService.class);
+
+        // 적재 순서 = id 순서 = BenchData.phone(i)
+        ids = app.bean(ParticipantRepository.class).findAll().stream()
+                .mapToLong(Participant::id)
+                .sorted()
+                .toArray();
+        newSession();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApp() {
+        app.close();
+    }
+
+    private void newSession() {
+        session = sessions.createSession(new SessionCreateRequest("벤치 미사 " + (sessionSeq++), BenchData.BASE_DATE.toString()));
+        cursor = 0;
+    }
+
+    @Benchmark
+    public CheckinResult checkin() {
+        if (cursor == ids.length) newSession();
+        int i = cursor++;
+        CheckinResult result = attendance.checkin(
+                new CheckinRequest(session.id(), session.shortCode(), ids[i], BenchData.phone(i)));
+        if (!result.ok()) throw new IllegalStateException(result.message());
+        return result;
+    }
+}
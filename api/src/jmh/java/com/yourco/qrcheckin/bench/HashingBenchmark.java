@@ -0,0 +1,106 @@
+package com.yourco.qrcheckin.bench;
+
+import com.yourco.qrcheckin.common.util.HashingService;
+import com.yourco.qrcheckin.common.util.PhoneNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전화번호 정규화 + 해시 (체크인/엑셀 업로드 행마다 실행) 의 예전 구현과 현재 구현 비교.
+ * 할당량은 -prof gc 로 확인: ./gradlew jmh -Pjmh.include=HashingBenchmark -Pjmh.args="-prof gc"
+ * Setup 에서 예전 구현과 결과가 같은지 먼저 검사한다 (DB에 저장된 해시와 맞아야 함).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashingBenchmark {
+
+    private static final String SALT = "CHANGE_ME_SALT";
+
+    // 실제 입력 형태: 하이픈/공백 포함, 숫자만, 국제번호, 출석 코드, 한글 섞인 값
+    private static final String[] SAMPLES = {
+        "010-1234-5678", "01012345678", " 010 9876 5432 ", "+82 10-5555-0000",
+        "AB12CD", "", "전화 010-1111-2222", "😀 010", "\uD83D-broken-surrogate"
+    };
+
+    private HashingService hashing;
+    private int next;
+
+    @Setup
+    public void setup() {
+        hashing = new HashingService(SALT);
+        for (String s : SAMPLES) {
+            check(legacyNormalize(s), PhoneNormalizer.normalize(s), "normalize", s);
+            check(legacySha256(s, SALT), hashing.sha256(s), "sha256", s);
+            String norm = legacyNormalize(s);
+            check(legacySha256(norm, SALT), hashing.sha256(norm), "sha256", norm);
+        }
+    }
+
+    private String sample() {
+        String s = SAMPLES[next];
+        next = (next + 1) % SAMPLES.length;
+        return s;
+    }
+
+    @Benchmark
+    public String legacy() {
+        return legacySha256(legacyNormalize(sample()), SALT);
+    }
+
+    @Benchmark
+    public String current() {
+        return hashing.sha256(PhoneNormalizer.normalize(sample()));
+    }
+
+    @Benchmark
+    public String legacyNormalizeOnly() {
+        return legacyNormalize(sample());
+    }
+
+    @Benchmark
+    public String currentNormalizeOnly() {
+        return PhoneNormalizer.normalize(sample());
+    }
+
+    private static void check(String expected, String actual, String what, String input) {
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException(what + " 결과가 예전 구현과 다릅니다: [" + input + "] "
+                    + expected + " != " + actual);
+        }
+    }
+
+    // 예전 PhoneNormalizer.normalize
+    static String legacyNormalize(String phone) {
+        if (phone == null) return "";
+        return phone.replaceAll("[^0-9]", "");
+    }
+
+    // 예전 HashingService.sha256
+    static String legacySha256(String input, String salt) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest((input + "|" + salt).getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (Exception e) {
+            throw new IllegalStateException("hash failed", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.yourco.qrcheckin.bench;
+
+import com.yourco.qrcheckin.participant.ParticipantService;
+import com.yourco.qrcheckin.participant.model.ParticipantImportResult;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 명단 엑셀 업로드 전체 (파싱 + 정규화/해시 + 중복 확인 + insert).
+ * - fresh: 전체 교체(replaceAll) 로 매번 모두 새로 넣음
+ * - reupload: 같은 파일을 다시 올림 (모두 기존 참가자라 건너뜀)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportExcelBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"fresh", "reupload"})
+    public String scenario;
+
+    private BenchApp app;
+    private ParticipantService service;
+    private byte[] workbook;
+
+    @Setup(Level.Trial)
+    public void startApp() throws IOException {
+        app = BenchApp.start();
+        service = app.bean(ParticipantService.class);
+        workbook = buildWorkbook(rows);
+        if (scenario.equals("reupload")) {
+            service.importExcel(new ByteArrayInputStream(workbook), true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApp() {
+        app.close();
+    }
+
+    @Benchmark
+    public ParticipantImportResult importExcel() {
+        return service.importExcel(new ByteArrayInputStream(workbook), scenario.equals("fresh"));
+    }
+
+    private static byte[] buildWorkbook(int rows) throws IOException {
+        try (SXSSFWorkbook wb = new SXSSFWorkbook(1000)) {
+            Sheet sheet = wb.createSheet("명단");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("이름");
+            header.createCell(1).setCellValue("전화번호");
+            header.createCell(2).setCellValue("세례명");
+            header.createCell(3).setCellValue("구역");
+            for (int i = 0; i < rows; i++) {
+                Row r = sheet.createRow(i + 1);
+                String phone = BenchData.phone(i);
+                r.createCell(0).setCellValue(BenchData.name(i));
+                // 실제 파일처럼 하이픈 섞인 형식
+                r.createCell(1).setCellValue(phone.substring(0, 3) + "-" + phone.substring(3, 7) + "-" + phone.substring(7));
+                r.createCell(2).setCellValue(i % 3 == 0 ? "요한" : "");
+                r.createCell(3).setCellValue((i % 30 + 1) + "구역");
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            wb.write(out);
+            wb.dispose();
+            return out.toByteArray();
+        }
+    }
+}
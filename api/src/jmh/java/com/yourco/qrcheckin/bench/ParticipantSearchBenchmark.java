@@ -0,0 +1,80 @@
+package com.yourco.qrcheckin.bench;
+
+import com.yourco.qrcheckin.participant.ParticipantRepository;
+import com.yourco.qrcheckin.participant.ParticipantRoster;
+import com.yourco.qrcheckin.participant.model.Participant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름 앞글자 검색 (체크인 화면 자동완성).
+ * 흔한 성씨 한 글자처럼 결과가 많은 검색과 이름 세 글자처럼 좁은 검색을 섞는다.
+ * searchByNamePrefix = SQL LIKE, rosterSearch = 메모리 인덱스, rosterChoseongSearch = 초성/섞인 검색어.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParticipantSearchBenchmark {
+
+    private static final String[] QUERIES = {"김", "이서", "박민지", "최", "정하", "황", "김민", "윤은도"};
+    private static final String[] CHOSEONG_QUERIES = {"ㄱ", "ㅇㅅ", "ㅂㅁㅈ", "ㅊ", "정ㅎ", "ㅎ", "김ㅁ", "ㅇㅇㄷ"};
+
+    @Param({"1000", "10000", "100000"})
+    public int participants;
+
+    private BenchApp app;
+    private ParticipantRepository repo;
+    private ParticipantRoster roster;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApp() {
+        app = BenchApp.start();
+        BenchData.seedParticipants(app, participants);
+        repo = app.bean(ParticipantRepository.class);
+        roster = app.bean(ParticipantRoster.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApp() {
+        app.close();
+    }
+
+    @Benchmark
+    public List<Participant> searchByNamePrefix() {
+        String q = QUERIES[next];
+        next = (next + 1) % QUERIES.length;
+        return repo.searchByNamePrefix(q, 20);
+    }
+
+    @Benchmark
+    public List<Participant> rosterSearch() {
+        String q = QUERIES[next];
+        next = (next + 1) % QUERIES.length;
+        return roster.searchByName(q, 20);
+    }
+
+    @Benchmark
+    public List<Participant> rosterChoseongSearch() {
+        String q = CHOSEONG_QUERIES[next];
+        next = (next + 1) % CHOSEONG_QUERIES.length;
+        return roster.searchByName(q, 20);
+    }
+}
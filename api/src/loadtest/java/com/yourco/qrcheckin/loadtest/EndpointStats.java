@@ -0,0 +1,84 @@
+package com.yourco.qrcheckin.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포(마이크로초)와 결과 수.
+ */
+public final class EndpointStats {
+
+    private final String name;
+    // 1us ~ 60s, 유효숫자 3자리
+    private final Histogram latency = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(60), 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder rejected = new LongAdder();   // 503 (admission control)
+    private final LongAdder failed = new LongAdder();     // 그 밖의 4xx/5xx, ok=false
+    private final LongAdder errors = new LongAdder();     // 타임아웃, 연결 실패
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long startedNanos, int status) {
+        latency.recordValue(Math.max(1, (System.nanoTime() - startedNanos) / 1000));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    public void ok() { ok.increment(); }
+    public void duplicate() { duplicates.increment(); }
+    public void rejected() { rejected.increment(); }
+    public void failed() { failed.increment(); }
+    public void error() { errors.increment(); }
+
+    public long total() {
+        return ok.sum() + duplicates.sum() + rejected.sum() + failed.sum() + errors.sum();
+    }
+
+    public static void printHeader(PrintStream out) {
+        out.printf("%-28s %8s %9s %9s %9s %9s %9s %7s %7s %7s %7s%n",
+                "endpoint", "count", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)",
+                "dup%", "503%", "fail%", "err%");
+    }
+
+    public void print(PrintStream out) {
+        long total = total();
+        out.printf("%-28s %8d %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f %7.2f %7.2f %7.2f%n",
+                name, total,
+                ms(latency.getValueAtPercentile(50)),
+                ms(latency.getValueAtPercentile(90)),
+                ms(latency.getValueAtPercentile(99)),
+                ms(latency.getValueAtPercentile(99.9)),
+                ms(latency.getMaxValue()),
+                pct(duplicates.sum(), total), pct(rejected.sum(), total),
+                pct(failed.sum(), total), pct(errors.sum(), total));
+    }
+
+    /** HdrHistogram 백분위 분포 파일 (.hgrm, HdrHistogram plotter 로 그릴 수 있음) */
+    public void writeDistribution(Path dir) throws IOException {
+        Path file = dir.resolve(name.replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            latency.outputPercentileDistribution(out, 1000.0);
+            out.println("# status codes: " + statuses);
+        }
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double pct(long n, long total) {
+        return total == 0 ? 0 : n * 100.0 / total;
+    }
+}
@@ -0,0 +1,60 @@
+package com.yourco.qrcheckin.loadtest;
+
+import com.yourco.qrcheckin.bench.BenchApp;
+import com.yourco.qrcheckin.bench.BenchData;
+import com.yourco.qrcheckin.session.SessionService;
+import com.yourco.qrcheckin.session.model.SessionCreateRequest;
+import com.yourco.qrcheckin.session.model.SessionResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 임시 디렉토리의 새 SQLite 파일로 앱을 임의 포트에 띄운다.
+ * 앱 기동과 참가자 데이터는 벤치마크(src/jmh)의 BenchApp/BenchData 를 그대로 쓴다.
+ */
+public final class ScratchServer implements AutoCloseable {
+
+    private final BenchApp app;
+
+    private ScratchServer(BenchApp app) {
+        this.app = app;
+    }
+
+    public static ScratchServer start(boolean virtualThreads) {
+        return new ScratchServer(BenchApp.startServer("spring.threads.virtual.enabled=" + virtualThreads));
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + app.port();
+    }
+
+    public static String name(int i) {
+        return BenchData.name(i);
+    }
+
+    public static String phone(int i) {
+        return BenchData.phone(i);
+    }
+
+    /**
+     * 참가자 명단 적재.
+     * @return 인덱스 i 참가자의 id (name(i), phone(i))
+     */
+    public long[] seedParticipants(int count) {
+        BenchData.seedParticipants(app, count);
+        return app.bean(JdbcTemplate.class).queryForList("SELECT id FROM participants ORDER BY id", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    public SessionResponse createSession() {
+        return app.bean(SessionService.class)
+                .createSession(new SessionCreateRequest("주일미사 부하테스트", LocalDate.now().toString()));
+    }
+
+    @Override
+    public void close() {
+        app.close();
+    }
+}
@@ -0,0 +1,253 @@
+package com.yourco.qrcheckin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.qrcheckin.session.model.SessionResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주일 미사 직전 몰림 재현.
+ * 신자 한 명 = QR 스캔(세션 조회) → 이름 입력하며 검색 → 체크인 (일부는 버튼 두 번).
+ * 도착 시각은 ramp-seconds 동안 peak-at 지점에 몰리는 삼각 분포로 뿌린다.
+ * 그동안 관리자는 출석 현황을 주기적으로 새로고침한다.
+ * 체크인이 503(Retry-After)로 거절되면 안내대로 기다렸다가 두 번까지 다시 누른다.
+ *
+ * 실행: ./gradlew loadtest -Ploadtest.args="clients=600 ramp-seconds=90"
+ * 결과: 표준 출력 + build/reports/loadtest/*.hgrm
+ */
+public final class SundaySurge {
+
+    private static final String DUPLICATE_MESSAGE = "이미 출석 처리되었습니다.";
+    private static final int MAX_RETRIES = 2;
+
+    private final SurgeOptions opt;
+    private final String baseUrl;
+    private final SessionResponse session;
+    private final long[] participantIds;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+    private final Semaphore concurrency;
+
+    private final EndpointStats sessionCode = new EndpointStats("GET /api/sessions/code");
+    private final EndpointStats search = new EndpointStats("GET /api/participants/search");
+    private final EndpointStats checkin = new EndpointStats("POST /api/checkin");
+    private final EndpointStats adminList = new EndpointStats("GET /api/admin/attendances");
+
+    private volatile boolean clientsDone;
+
+    private SundaySurge(SurgeOptions opt, String baseUrl, SessionResponse session, long[] participantIds) {
+        this.opt = opt;
+        this.baseUrl = baseUrl;
+        this.session = session;
+        this.participantIds = participantIds;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.concurrency = opt.concurrency() > 0 ? new Semaphore(opt.concurrency()) : null;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SurgeOptions opt = SurgeOptions.parse(args);
+        if (opt.clients() > opt.participants()) {
+            throw new IllegalArgumentException("clients 는 participants 이하여야 합니다");
+        }
+        System.out.println("options: " + opt);
+
+        try (ScratchServer server = ScratchServer.start(opt.virtualThreads())) {
+            long[] ids = server.seedParticipants(opt.participants());
+            SessionResponse session = server.createSession();
+            new SundaySurge(opt, server.baseUrl(), session, ids).run();
+        }
+    }
+
+    private void run() throws Exception {
+        // 명단에서 겹치지 않게 clients 명을 고른다
+        Random random = new Random(opt.seed());
+        int[] people = random.ints(0, opt.participants()).distinct().limit(opt.clients()).toArray();
+
+        CountDownLatch done = new CountDownLatch(people.length);
+        long begin = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < opt.admins(); i++) {
+                users.submit(this::admin);
+            }
+            for (int person : people) {
+                long arrivalMs = (long) (triangular(random.nextDouble(), opt.peakAt()) * opt.rampSeconds() * 1000);
+                users.submit(() -> {
+                    try {
+                        sleepUntil(begin + TimeUnit.MILLISECONDS.toNanos(arrivalMs));
+                        visit(person);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            clientsDone = true;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        report(elapsedMs);
+    }
+
+    // 신자 한 명의 흐름
+    private void visit(int person) throws InterruptedException {
+        if (send(sessionCode, get("/api/sessions/code/" + session.shortCode())) == null) return;
+
+        String name = ScratchServer.name(person);
+        for (int len = 1; len <= name.length(); len++) {
+            think();
+            send(search, get("/api/participants/search?limit=10&q="
+                    + urlEncode(name.substring(0, len))));
+        }
+
+        think();
+        String phone = ScratchServer.phone(person);
+        String body = "{\"sessionId\":\"" + session.id() + "\",\"token\":\"" + session.shortCode()
+                + "\",\"participantId\":" + participantIds[person]
+                + ",\"phone\":\"" + phone.substring(0, 3) + "-" + phone.substring(3, 7) + "-" + phone.substring(7) + "\"}";
+
+        for (int attempt = 0; ; attempt++) {
+            HttpResponse<String> res = send(checkin, post("/api/checkin", body));
+            if (res == null) return;
+            if (res.statusCode() == 503 && attempt < MAX_RETRIES) {
+                long wait = res.headers().firstValueAsLong("Retry-After").orElse(1);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(wait));
+                continue;
+            }
+            break;
+        }
+        if (ThreadLocalRandom.current().nextDouble() < opt.doubleTapRate()) {
+            send(checkin, post("/api/checkin", body));
+        }
+    }
+
+    private void admin() {
+        try {
+            while (!clientsDone) {
+                send(adminList, get("/api/admin/attendances?sessionId=" + urlEncode(session.id())));
+                Thread.sleep(opt.adminIntervalMs());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 요청 한 번을 보내고 결과를 분류한다.
+     * @return 응답 (연결 실패/타임아웃이면 null)
+     */
+    private HttpResponse<String> send(EndpointStats stats, HttpRequest request) throws InterruptedException {
+        if (concurrency != null) concurrency.acquire();
+        long started = System.nanoTime();
+        HttpResponse<String> res;
+        try {
+            res = http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            stats.error();
+            return null;
+        } finally {
+            if (concurrency != null) concurrency.release();
+        }
+        stats.record(started, res.statusCode());
+        classify(stats, res);
+        return res;
+    }
+
+    private void classify(EndpointStats stats, HttpResponse<String> res) {
+        int status = res.statusCode();
+        if (status == 503) {
+            stats.rejected();
+        } else if (status >= 400) {
+            stats.failed();
+        } else if (stats == checkin) {
+            try {
+                JsonNode node = json.readTree(res.body());
+                if (node.path("ok").asBoolean()) stats.ok();
+                else if (DUPLICATE_MESSAGE.equals(node.path("message").asText())) stats.duplicate();
+                else stats.failed();
+            } catch (IOException e) {
+                stats.failed();
+            }
+        } else {
+            stats.ok();
+        }
+    }
+
+    private void report(long elapsedMs) throws IOException, InterruptedException {
+        System.out.printf("%n%d clients in %.1fs (ramp %ds, peak at %.0f%%)%n%n",
+                opt.clients(), elapsedMs / 1000.0, opt.rampSeconds(), opt.peakAt() * 100);
+        EndpointStats.printHeader(System.out);
+        Path dir = Path.of("build", "reports", "loadtest");
+        Files.createDirectories(dir);
+        for (EndpointStats s : List.of(sessionCode, search, checkin, adminList)) {
+            s.print(System.out);
+            s.writeDistribution(dir);
+        }
+
+        // 서버 쪽 지표: 실제 기록된 출석 수, 배치/admission 통계
+        System.out.println();
+        for (String path : List.of(
+                "/api/admin/attendances/count?sessionId=" + urlEncode(session.id()),
+                "/api/admin/attendances/batch/stats",
+                "/api/admin/admission")) {
+            HttpResponse<String> res = http.send(get(path), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            System.out.println(path + " -> " + res.body());
+        }
+        System.out.println("histograms: " + dir.toAbsolutePath());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private void think() throws InterruptedException {
+        Thread.sleep(ThreadLocalRandom.current().nextLong(opt.thinkMinMs(), opt.thinkMaxMs() + 1));
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) TimeUnit.NANOSECONDS.sleep(remaining);
+    }
+
+    // [0,1) 균등 난수 → 최빈값 mode 인 삼각 분포
+    private static double triangular(double u, double mode) {
+        return u < mode ? Math.sqrt(u * mode) : 1 - Math.sqrt((1 - u) * (1 - mode));
+    }
+
+    private static String urlEncode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+}
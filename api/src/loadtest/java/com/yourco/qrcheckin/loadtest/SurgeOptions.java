@@ -0,0 +1,46 @@
+package com.yourco.qrcheckin.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 인자는 key=value 형식 (예: clients=600 ramp-seconds=90).
+ */
+public record SurgeOptions(
+        int clients,          // 체크인하는 신자 수
+        int rampSeconds,      // 도착이 퍼지는 시간
+        double peakAt,        // 도착이 가장 몰리는 지점 (0~1, 미사 시작 직전)
+        int participants,     // 명단 크기
+        int admins,           // 출석 현황을 새로고침하는 관리자 수
+        long adminIntervalMs,
+        double doubleTapRate, // 체크인 버튼을 두 번 누르는 비율
+        long thinkMinMs,      // 검색창 입력 사이 대기
+        long thinkMaxMs,
+        int concurrency,      // 동시에 요청을 보내는 클라이언트 상한 (0 = 제한 없음)
+        boolean virtualThreads,
+        long seed
+) {
+
+    public static SurgeOptions parse(String[] args) {
+        Map<String, String> m = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+            m.put(arg.substring(0, eq).replaceFirst("^--", ""), arg.substring(eq + 1));
+        }
+        return new SurgeOptions(
+                Integer.parseInt(m.getOrDefault("clients", "400")),
+                Integer.parseInt(m.getOrDefault("ramp-seconds", "120")),
+                Double.parseDouble(m.getOrDefault("peak-at", "0.7")),
+                Integer.parseInt(m.getOrDefault("participants", "2000")),
+                Integer.parseInt(m.getOrDefault("admins", "2")),
+                Long.parseLong(m.getOrDefault("admin-interval-ms", "3000")),
+                Double.parseDouble(m.getOrDefault("double-tap-rate", "0.05")),
+                Long.parseLong(m.getOrDefault("think-min-ms", "150")),
+                Long.parseLong(m.getOrDefault("think-max-ms", "600")),
+                Integer.parseInt(m.getOrDefault("concurrency", "0")),
+                Boolean.parseBoolean(m.getOrDefault("virtual-threads", "false")),
+                Long.parseLong(m.getOrDefault("seed", "42"))
+        );
+    }
+}
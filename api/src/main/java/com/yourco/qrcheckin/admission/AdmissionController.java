@@ -0,0 +1,24 @@
+package com.yourco.qrcheckin.admission;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/admission")
+public class AdmissionController {
+
+    private final AdmissionLimiter limiter;
+
+    public AdmissionController(AdmissionLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    // 동시 처리 한도, 대기열 깊이, 거절 수
+    @GetMapping
+    public Map<String, Object> stats() {
+        return limiter.stats();
+    }
+}
@@ -0,0 +1,79 @@
+package com.yourco.qrcheckin.admission;
+
+import com.yourco.qrcheckin.admission.AdmissionLimiter.Priority;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * POST /api/checkin 과 /api/admin/** 앞단의 admission control.
+ * 한도를 넘으면 바로 503 + Retry-After 로 응답한다.
+ * 체크인 응답 본문은 CheckinResult 형식이라 폰 화면에 안내 문구가 그대로 뜬다.
+ */
+@Component
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private static final String CHECKIN_REJECTED_BODY =
+            "{\"ok\":false,\"message\":\"지금 출석하는 분이 많습니다. 잠시 후 다시 시도해주세요.\"}";
+    private static final String ADMIN_REJECTED_BODY =
+            "{\"message\":\"체크인 요청이 많아 관리자 요청을 잠시 미룹니다. 잠시 후 다시 시도해주세요.\"}";
+
+    private final AdmissionLimiter limiter;
+
+    public AdmissionFilter(AdmissionLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        Priority priority = classify(request);
+        if (priority == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!limiter.tryAcquire(priority)) {
+            reject(response, priority);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(priority);
+        }
+    }
+
+    private static Priority classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if ("POST".equals(request.getMethod()) && uri.equals("/api/checkin")) {
+            return Priority.CHECKIN;
+        }
+        // 상태 확인/지표 수집 엔드포인트는 과부하 중에도 열어둔다
+        if (uri.startsWith("/api/admin/")
+                && !uri.startsWith("/api/admin/admission")
+                && !uri.startsWith("/api/admin/metrics")) {
+            return Priority.ADMIN;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, Priority priority) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Integer.toString(limiter.retryAfterSeconds(priority)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(priority == Priority.CHECKIN ? CHECKIN_REJECTED_BODY : ADMIN_REJECTED_BODY);
+    }
+}
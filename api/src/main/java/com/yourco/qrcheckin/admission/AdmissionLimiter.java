@@ -0,0 +1,145 @@
+package com.yourco.qrcheckin.admission;
+
+import com.yourco.qrcheckin.attendance.AttendanceWriteBatcher;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 처리 요청 수 제한 (admission control).
+ * 한도를 넘는 요청은 큐에 쌓지 않고 바로 거절해 폰이 타임아웃까지 기다리지 않게 한다.
+ * 한도는 출석 배치 커밋 지연을 보고 조정한다 (AIMD):
+ * - 커밋 지연이 목표보다 길고 쓰기 대기열이 밀려 있으면 한도를 줄이고 (x0.9)
+ *   커밋이 stale-intervals 번의 조정 주기 동안 없었으면 지난 지연은 보지 않는다 (조용할 때 한도가 계속 줄지 않게)
+ * - 목표 이내인데 한도 가까이 쓰고 있으면 1씩 늘린다.
+ * 관리자 요청은 한도의 일부(admin-share)까지만 받아 체크인에 여유를 남긴다.
+ */
+@Component
+public class AdmissionLimiter {
+
+    public enum Priority { CHECKIN, ADMIN }
+
+    private final AttendanceWriteBatcher writeBatcher;
+
+    @Value("${app.admission.min-limit:8}")
+    private int minLimit;
+
+    @Value("${app.admission.max-limit:256}")
+    private int maxLimit;
+
+    @Value("${app.admission.initial-limit:64}")
+    private int initialLimit;
+
+    @Value("${app.admission.target-commit-ms:50}")
+    private double targetCommitMs;
+
+    @Value("${app.admission.admin-share:0.25}")
+    private double adminShare;
+
+    @Value("${app.admission.adjust-interval-ms:250}")
+    private long adjustIntervalMs;
+
+    @Value("${app.admission.stale-intervals:4}")
+    private int staleIntervals;
+
+    private volatile double limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger adminInFlight = new AtomicInteger();
+    private final AtomicLong lastAdjust = new AtomicLong();
+
+    private final LongAdder admittedCheckins = new LongAdder();
+    private final LongAdder admittedAdmin = new LongAdder();
+    private final LongAdder rejectedCheckins = new LongAdder();
+    private final LongAdder rejectedAdmin = new LongAdder();
+
+    public AdmissionLimiter(AttendanceWriteBatcher writeBatcher) {
+        this.writeBatcher = writeBatcher;
+    }
+
+    @PostConstruct
+    void init() {
+        limit = clamp(initialLimit);
+        lastAdjust.set(System.nanoTime());
+    }
+
+    public boolean tryAcquire(Priority priority) {
+        adjust();
+        int current = (int) limit;
+        int cap = priority == Priority.CHECKIN ? current : Math.max(1, (int) (current * adminShare));
+
+        while (true) {
+            int n = inFlight.get();
+            if (n >= current || (priority == Priority.ADMIN && adminInFlight.get() >= cap)) {
+                (priority == Priority.CHECKIN ? rejectedCheckins : rejectedAdmin).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(n, n + 1)) break;
+        }
+        if (priority == Priority.ADMIN) {
+            adminInFlight.incrementAndGet();
+            admittedAdmin.increment();
+        } else {
+            admittedCheckins.increment();
+        }
+        return true;
+    }
+
+    public void release(Priority priority) {
+        if (priority == Priority.ADMIN) adminInFlight.decrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 다시 시도할 때까지 기다릴 시간 (초).
+     * 쓰기 대기열을 현재 커밋 속도로 비우는 데 걸리는 시간을 대략 계산한다.
+     */
+    public int retryAfterSeconds(Priority priority) {
+        double commitMs = Math.max(writeBatcher.recentCommitMillis(), 1);
+        double drainSeconds = writeBatcher.queueDepth() * commitMs / 1000.0;
+        int base = priority == Priority.CHECKIN ? 1 : 5;
+        return (int) Math.min(30, Math.max(base, Math.ceil(drainSeconds)));
+    }
+
+    public Map<String, Object> stats() {
+        return Map.ofEntries(
+            Map.entry("limit", (int) limit),
+            Map.entry("minLimit", minLimit),
+            Map.entry("maxLimit", maxLimit),
+            Map.entry("inFlight", inFlight.get()),
+            Map.entry("adminInFlight", adminInFlight.get()),
+            Map.entry("writeQueueDepth", writeBatcher.queueDepth()),
+            Map.entry("recentCommitMillis", writeBatcher.recentCommitMillis()),
+            Map.entry("targetCommitMillis", targetCommitMs),
+            Map.entry("admittedCheckins", admittedCheckins.sum()),
+            Map.entry("admittedAdmin", admittedAdmin.sum()),
+            Map.entry("rejectedCheckins", rejectedCheckins.sum()),
+            Map.entry("rejectedAdmin", rejectedAdmin.sum())
+        );
+    }
+
+    private void adjust() {
+        long now = System.nanoTime();
+        long last = lastAdjust.get();
+        if (now - last < adjustIntervalMs * 1_000_000L) return;
+        if (!lastAdjust.compareAndSet(last, now)) return;
+
+        boolean fresh = writeBatcher.millisSinceLastCommit() <= adjustIntervalMs * staleIntervals;
+        boolean overloaded = fresh
+                && writeBatcher.recentCommitMillis() > targetCommitMs
+                && writeBatcher.queueDepth() > 0;
+        if (overloaded) {
+            limit = clamp(limit * 0.9);
+        } else if (inFlight.get() >= limit * 0.8) {
+            limit = clamp(limit + 1);
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
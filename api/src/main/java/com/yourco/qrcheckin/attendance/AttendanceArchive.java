@@ -0,0 +1,281 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.AttendanceArchiveMonth;
+import com.yourco.qrcheckin.attendance.model.AttendanceArchiveReport;
+import com.yourco.qrcheckin.attendance.model.AttendanceArchiveSession;
+import com.yourco.qrcheckin.attendance.model.AttendanceRecord;
+import com.yourco.qrcheckin.infra.archive.ColumnarSegment;
+import com.yourco.qrcheckin.participant.ParticipantService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 보관 기간이 지난 출석 기록을 지우기 전에 남겨 두는 월별 보관 파일.
+ * - <path>/yyyy-MM/job-<작업ID>-<순번>.qca 에 열 단위 압축 세그먼트(ColumnarSegment)로 쓴다.
+ * - 파일은 한 번 쓰면 고치지 않는다 (추가만). 같은 작업을 다시 돌리면 그 작업이 쓴 파일을 먼저 지우므로 중복되지 않는다.
+ * - 전화번호 전체/IP/User-Agent 는 보관하지 않는다 (통계에 필요 없는 개인정보).
+ * 조회는 SQLite 에 다시 넣지 않고 세그먼트를 하나씩 풀어 필요한 열만 읽는다.
+ */
+@Component
+public class AttendanceArchive {
+
+    // 집계에 자주 쓰는 열을 앞에 (뒤쪽 열은 필요 없으면 풀지 않는다)
+    static final String SESSION_ID = "session_id";
+    static final String SESSION_TITLE = "session_title";
+    static final String DISTRICT = "district";
+    static final String CHECKED_IN_AT = "checked_in_at";
+    static final String NAME = "name";
+    static final String PHONE_LAST4 = "phone_last4";
+    static final String ID = "id";
+    static final String PARTICIPANT_ID = "participant_id";
+
+    private static final List<String> STRING_COLUMNS =
+            List.of(SESSION_ID, SESSION_TITLE, DISTRICT, CHECKED_IN_AT, NAME, PHONE_LAST4);
+    private static final List<String> LONG_COLUMNS = List.of(ID, PARTICIPANT_ID);
+
+    private final AttendanceRepository attendanceRepo;
+
+    @Value("${app.attendance.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.attendance.archive.path:./data/archive}")
+    private String archivePath;
+
+    // 세그먼트 하나에 담는 최대 행 수 (쓰는 동안 이만큼 메모리에 모은다)
+    @Value("${app.attendance.archive.segment-rows:50000}")
+    private int segmentRows;
+
+    private Path dir;
+
+    public AttendanceArchive(AttendanceRepository attendanceRepo) {
+        this.attendanceRepo = attendanceRepo;
+    }
+
+    @PostConstruct
+    void init() {
+        // 디렉토리는 처음 쓸 때 만든다
+        dir = Paths.get(archivePath).toAbsolutePath().normalize();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * [start, endExclusive) 기록을 월별 세그먼트로 쓴다.
+     * @return 보관한 행 수
+     */
+    public long archive(long jobId, String start, String endExclusive) {
+        // 순번은 1부터 다시 매기므로 지난번에 더 많이 썼으면 뒤쪽 파일이 남는다
+        deleteSegments(jobId);
+        SegmentSink sink = new SegmentSink(jobId);
+        attendanceRepo.forEachForArchive(start, endExclusive, sink);
+        sink.flush();
+        return sink.rows;
+    }
+
+    /** 보관 파일이 있는 달 (오래된 순) */
+    public List<AttendanceArchiveMonth> months() {
+        List<AttendanceArchiveMonth> result = new ArrayList<>();
+        for (YearMonth month : listMonths()) {
+            long rows = 0;
+            long bytes = 0;
+            List<Path> segments = segments(month);
+            for (Path segment : segments) {
+                try (InputStream in = Files.newInputStream(segment)) {
+                    rows += ColumnarSegment.readRowCount(in);
+                    bytes += Files.size(segment);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            result.add(new AttendanceArchiveMonth(month.toString(), segments.size(), rows, bytes));
+        }
+        return result;
+    }
+
+    /**
+     * from~to(포함) 달의 세그먼트를 하나씩 풀어 넘긴다. null 이면 처음/끝까지.
+     * 한 번에 세그먼트 하나만 메모리에 올린다.
+     */
+    public void scan(YearMonth from, YearMonth to, Set<String> columns, Consumer<ColumnarSegment.Data> action) {
+        for (YearMonth month : listMonths()) {
+            if (from != null && month.isBefore(from)) continue;
+            if (to != null && month.isAfter(to)) break;
+            for (Path segment : segments(month)) {
+                try (InputStream in = Files.newInputStream(segment)) {
+                    action.accept(ColumnarSegment.read(in, columns));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(segment + " 읽기 실패", e);
+                }
+            }
+        }
+    }
+
+    /** 보관된 기록의 세션별/구역별/월별 출석 수 */
+    public AttendanceArchiveReport report(YearMonth from, YearMonth to) {
+        Map<String, SessionTotal> sessions = new HashMap<>();
+        Map<String, Long> byDistrict = new TreeMap<>();
+        Map<String, Long> byMonth = new TreeMap<>();
+        long[] rows = {0};
+
+        scan(from, to, Set.of(SESSION_ID, SESSION_TITLE, DISTRICT, CHECKED_IN_AT), data -> {
+            String[] sessionIds = data.strings(SESSION_ID);
+            String[] titles = data.strings(SESSION_TITLE);
+            String[] districts = data.strings(DISTRICT);
+            String[] checkedInAt = data.strings(CHECKED_IN_AT);
+            for (int i = 0; i < data.rows(); i++) {
+                SessionTotal total = sessions.computeIfAbsent(sessionIds[i], k -> new SessionTotal());
+                if (total.title == null) total.title = titles[i];
+                if (total.first == null || checkedInAt[i].compareTo(total.first) < 0) total.first = checkedInAt[i];
+                total.attended++;
+                byDistrict.merge(ParticipantService.districtLabel(districts[i]), 1L, Long::sum);
+                byMonth.merge(monthOf(checkedInAt[i]), 1L, Long::sum);
+            }
+            rows[0] += data.rows();
+        });
+
+        List<AttendanceArchiveSession> sessionList = new ArrayList<>(sessions.size());
+        sessions.forEach((id, t) -> sessionList.add(new AttendanceArchiveSession(id, t.title, t.first, t.attended)));
+        sessionList.sort(Comparator.comparing(AttendanceArchiveSession::firstCheckedInAt)
+                .thenComparing(AttendanceArchiveSession::sessionId));
+        return new AttendanceArchiveReport(
+                from != null ? from.toString() : null,
+                to != null ? to.toString() : null,
+                rows[0],
+                sessionList,
+                byDistrict,
+                byMonth
+        );
+    }
+
+    private void deleteSegments(long jobId) {
+        String prefix = "job-" + jobId + "-";
+        for (YearMonth month : listMonths()) {
+            for (Path segment : segments(month)) {
+                if (!segment.getFileName().toString().startsWith(prefix)) continue;
+                try {
+                    Files.deleteIfExists(segment);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private List<YearMonth> listMonths() {
+        if (!Files.isDirectory(dir)) return List.of();
+        List<YearMonth> months = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            for (Path entry : entries) {
+                try {
+                    months.add(YearMonth.parse(entry.getFileName().toString()));
+                } catch (DateTimeParseException ignore) {
+                    // 월 디렉토리가 아니면 건너뜀
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        months.sort(null);
+        return months;
+    }
+
+    private List<Path> segments(YearMonth month) {
+        try (Stream<Path> files = Files.list(dir.resolve(month.toString()))) {
+            return files.filter(f -> f.getFileName().toString().endsWith(ColumnarSegment.EXTENSION))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String monthOf(String checkedInAt) {
+        // "yyyy-MM-dd HH:mm"
+        return checkedInAt.length() >= 7 ? checkedInAt.substring(0, 7) : checkedInAt;
+    }
+
+    private static final class SessionTotal {
+        String title;
+        String first;
+        long attended;
+    }
+
+    /** 오래된 순서로 들어오는 기록을 달이 바뀌거나 segment-rows 가 차면 파일로 쓴다 */
+    private final class SegmentSink implements Consumer<AttendanceRecord> {
+
+        private final long jobId;
+        private final Map<String, Integer> sequences = new HashMap<>();
+        private String month;
+        private ColumnarSegment.Builder builder;
+        long rows;
+
+        SegmentSink(long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void accept(AttendanceRecord r) {
+            String m = monthOf(r.checkedInAt());
+            if (builder != null && (!m.equals(month) || builder.size() >= segmentRows)) flush();
+            if (builder == null) {
+                month = m;
+                builder = new ColumnarSegment.Builder(STRING_COLUMNS, LONG_COLUMNS);
+            }
+            builder.add(
+                    new String[]{r.sessionId(), r.sessionTitle(), r.district(), r.checkedInAt(), r.name(), r.phoneLast4()},
+                    new long[]{r.id(), r.participantId()}
+            );
+            rows++;
+        }
+
+        void flush() {
+            if (builder == null || builder.size() == 0) return;
+            int seq = sequences.merge(month, 1, Integer::sum);
+            try {
+                write(dir.resolve(month), "job-" + jobId + "-" + seq + ColumnarSegment.EXTENSION, builder);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            builder = null;
+        }
+
+        // 임시 파일에 다 쓰고 디스크에 내린 뒤 rename (읽는 쪽은 .qca 만 본다)
+        private void write(Path monthDir, String name, ColumnarSegment.Builder segment) throws IOException {
+            Files.createDirectories(monthDir);
+            Path tmp = Files.createTempFile(monthDir, ".segment-", ".tmp");
+            try {
+                try (FileOutputStream out = new FileOutputStream(tmp.toFile())) {
+                    segment.writeTo(out);
+                    out.getFD().sync();
+                }
+                Files.move(tmp, monthDir.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+}
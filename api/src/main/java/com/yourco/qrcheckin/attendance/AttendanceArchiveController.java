@@ -0,0 +1,48 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.AttendanceArchiveMonth;
+import com.yourco.qrcheckin.attendance.model.AttendanceArchiveReport;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/attendances/archive")
+public class AttendanceArchiveController {
+
+    private final AttendanceArchive archive;
+
+    public AttendanceArchiveController(AttendanceArchive archive) {
+        this.archive = archive;
+    }
+
+    // 보관 파일이 있는 달 목록 (행 수, 파일 크기)
+    @GetMapping
+    public List<AttendanceArchiveMonth> months() {
+        return archive.months();
+    }
+
+    // 보관된 출석 기록 집계 (from/to: yyyy-MM, 생략하면 처음/끝까지)
+    @GetMapping("/report")
+    public AttendanceArchiveReport report(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return archive.report(parseMonth(from), parseMonth(to));
+    }
+
+    private static YearMonth parseMonth(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "월 형식이 올바르지 않습니다 (yyyy-MM): " + value);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.common.util.CompactBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 세션별 출석한 participant_id 비트맵.
+ * 중복 체크인(버튼 두 번 누르기 등)을 DB까지 가지 않고 메모리에서 걸러내고,
+ * 출석 인원 수를 O(1)로 돌려준다.
+ * 세션을 처음 조회할 때 출석 기록에서 한 번 적재하며, 동시 적재는 한 번의 쿼리로 합친다.
+ */
+@Component
+public class AttendanceBitmaps {
+
+    private final AttendanceRepository attendanceRepo;
+    private final ConcurrentHashMap<String, Entry> sessions = new ConcurrentHashMap<>();
+
+    @Value("${app.attendance.bitmap.max-sessions:32}")
+    private int maxSessions;
+
+    public AttendanceBitmaps(AttendanceRepository attendanceRepo) {
+        this.attendanceRepo = attendanceRepo;
+    }
+
+    private static final class Entry {
+        final CompletableFuture<CompactBitmap> bitmap = new CompletableFuture<>();
+        final ReentrantLock lock = new ReentrantLock();
+        volatile long lastAccess = System.nanoTime();
+
+        <T> T read(Function<CompactBitmap, T> action) {
+            CompactBitmap bm = await(bitmap);
+            lock.lock();
+            try {
+                return action.apply(bm);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public boolean isCheckedIn(String sessionId, long participantId) {
+        if (!fitsInBitmap(participantId)) return false;
+        return entry(sessionId).read(bm -> bm.contains((int) participantId));
+    }
+
+    public int count(String sessionId) {
+        return entry(sessionId).read(CompactBitmap::cardinality);
+    }
+
+    /** 이미 적재된 세션만 인원을 돌려준다 (적재 전/적재 중이면 비어 있음, DB를 읽지 않는다) */
+    public OptionalInt countIfLoaded(String sessionId) {
+        Entry entry = sessions.get(sessionId);
+        if (entry == null || !entry.bitmap.isDone() || entry.bitmap.isCompletedExceptionally()) return OptionalInt.empty();
+        entry.lastAccess = System.nanoTime();
+        return OptionalInt.of(entry.read(CompactBitmap::cardinality));
+    }
+
+    /**
+     * 커밋된 출석을 반영. 아직 적재되지 않은 세션은 다음 적재 때 DB에서 읽으므로 무시한다.
+     * 적재 중이면 적재가 끝난 뒤 반영된다.
+     */
+    public void markCheckedIn(String sessionId, long participantId) {
+        if (!fitsInBitmap(participantId)) return;
+        Entry entry = sessions.get(sessionId);
+        if (entry == null) return;
+        entry.bitmap.thenAccept(bm -> {
+            entry.lock.lock();
+            try {
+                bm.add((int) participantId);
+            } finally {
+                entry.lock.unlock();
+            }
+        });
+    }
+
+    public void evict(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public void evictAll() {
+        sessions.clear();
+    }
+
+    public Map<String, Object> stats() {
+        long bytes = 0;
+        int loaded = 0;
+        for (Entry e : sessions.values()) {
+            if (e.bitmap.isDone() && !e.bitmap.isCompletedExceptionally()) {
+                bytes += e.read(CompactBitmap::sizeInBytes);
+                loaded++;
+            }
+        }
+        return Map.of(
+            "sessions", loaded,
+            "maxSessions", maxSessions,
+            "estimatedBytes", bytes
+        );
+    }
+
+    private Entry entry(String sessionId) {
+        Entry existing = sessions.get(sessionId);
+        if (existing != null) {
+            existing.lastAccess = System.nanoTime();
+            return existing;
+        }
+
+        Entry mine = new Entry();
+        existing = sessions.putIfAbsent(sessionId, mine);
+        if (existing != null) return existing;
+
+        evictIfFull();
+        try {
+            CompactBitmap bm = new CompactBitmap();
+            attendanceRepo.forEachParticipantId(sessionId, id -> {
+                if (fitsInBitmap(id)) bm.add((int) id);
+            });
+            mine.bitmap.complete(bm);
+        } catch (RuntimeException e) {
+            sessions.remove(sessionId, mine);
+            mine.bitmap.completeExceptionally(e);
+            throw e;
+        }
+        return mine;
+    }
+
+    private void evictIfFull() {
+        while (sessions.size() > maxSessions) {
+            sessions.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                    .ifPresent(oldest -> sessions.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private static boolean fitsInBitmap(long participantId) {
+        return participantId >= 0 && participantId <= Integer.MAX_VALUE;
+    }
+
+    private static CompactBitmap await(CompletableFuture<CompactBitmap> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.yourco.qrcheckin.attendance;
 
+import com.yourco.qrcheckin.attendance.model.AttendancePurgeJob;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,33 +10,38 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class AttendanceCleanupScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(AttendanceCleanupScheduler.class);
+    private static final String REASON = "retention";
 
-    private final AttendanceRepository attendanceRepo;
+    private final AttendancePurger purger;
+    private final AttendanceArchive archive;
 
     @Value("${app.attendance.retention-days:0}")
     private int retentionDays; // 0 = 영구 보관
 
-    public AttendanceCleanupScheduler(AttendanceRepository attendanceRepo) {
-        this.attendanceRepo = attendanceRepo;
+    public AttendanceCleanupScheduler(AttendancePurger purger, AttendanceArchive archive) {
+        this.purger = purger;
+        this.archive = archive;
     }
 
     // 매일 새벽 3시에 실행
     @Scheduled(cron = "0 0 3 * * *")
     public void cleanupOldAttendances() {
-        runCleanup(retentionDays);
+        runCleanup(retentionDays, false);
     }
 
     /**
      * 수동 실행용 메소드
      * @param days 보관 기간 (0이면 설정값 사용)
+     * @param background true 면 작업만 시작하고 바로 돌아온다 (진행 상황은 getJob 으로)
      * @return 삭제 결과
      */
-    public Map<String, Object> runCleanup(int days) {
+    public Map<String, Object> runCleanup(int days, boolean background) {
         int effectiveDays = days > 0 ? days : retentionDays;
 
         if (effectiveDays <= 0) {
@@ -53,19 +59,36 @@ public class AttendanceCleanupScheduler {
 
         log.info("{}일 이전 출석 기록 삭제 시작 (기준: {})", effectiveDays, cutoffStr);
 
-        int deleted = attendanceRepo.deleteOlderThan(cutoffStr);
+        // 월별 보관 파일에 먼저 쓰고(archive.enabled), 청크 단위로 지워 체크인을 막지 않는다 ("" 부터 = 기준 이전 전부)
+        if (background) {
+            AttendancePurgeJob job = purger.startInBackground(REASON, "", cutoffStr, archive.isEnabled());
+            return Map.of(
+                "enabled", true,
+                "retentionDays", effectiveDays,
+                "cutoffDate", cutoffStr,
+                "job", job,
+                "message", job.total() + "건의 출석 기록 삭제를 시작했습니다"
+            );
+        }
 
-        log.info("출석 기록 {}건 삭제 완료", deleted);
+        AttendancePurgeJob job = purger.runNow(REASON, "", cutoffStr, archive.isEnabled());
+        log.info("출석 기록 {}건 삭제 완료", job.deleted());
 
         return Map.of(
             "enabled", true,
             "retentionDays", effectiveDays,
             "cutoffDate", cutoffStr,
-            "deleted", deleted,
-            "message", deleted + "건의 출석 기록이 삭제되었습니다"
+            "deleted", job.deleted(),
+            "job", job,
+            "message", job.deleted() + "건의 출석 기록이 삭제되었습니다"
         );
     }
 
+    /** 삭제 작업 진행 상황 (id 가 없으면 가장 최근 작업) */
+    public Optional<AttendancePurgeJob> getJob(Long id) {
+        return id != null ? purger.find(id) : purger.latest();
+    }
+
     public int getRetentionDays() {
         return retentionDays;
     }
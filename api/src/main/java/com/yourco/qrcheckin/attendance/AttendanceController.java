@@ -1,17 +1,32 @@
 package com.yourco.qrcheckin.attendance;
 
+import com.yourco.qrcheckin.attendance.model.AttendanceExportFilter;
+import com.yourco.qrcheckin.attendance.model.AttendanceFeed;
+import com.yourco.qrcheckin.attendance.model.AttendancePurgeJob;
 import com.yourco.qrcheckin.attendance.model.AttendanceRecord;
 import com.yourco.qrcheckin.attendance.model.CheckinRequest;
 import com.yourco.qrcheckin.attendance.model.CheckinResult;
+import com.yourco.qrcheckin.infra.excel.AttendanceExportFormat;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -40,11 +55,78 @@ public class AttendanceController {
         return service.getAllAttendances();
     }
 
+    // 출석 목록 페이지 (최신순). before=다음 페이지, since=마지막으로 받은 뒤 추가된 것만
+    @GetMapping("/admin/attendances/feed")
+    public AttendanceFeed getAttendanceFeed(
+            @RequestParam(required = false) String sessionId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "200") int limit) {
+        try {
+            return service.getAttendanceFeed(sessionId, before, since, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // 엑셀/CSV 내보내기. 조회 결과를 바로 응답으로 써 내려간다 (전체를 메모리에 올리지 않음)
+    @GetMapping("/admin/attendances/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false, defaultValue = "xlsx") String format,
+            @RequestParam(required = false) String sessionId,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String district) {
+        AttendanceExportFormat fmt;
+        AttendanceExportFilter filter;
+        try {
+            fmt = AttendanceExportFormat.parse(format);
+            filter = service.normalizeExportFilter(new AttendanceExportFilter(sessionId, startDate, endDate, district));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        String filename = "출석내역_" + LocalDate.now() + "." + fmt.extension();
+        StreamingResponseBody body = out -> service.exportAttendances(filter, fmt, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fmt.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString())
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
+    // 실시간 출석 현황 (QR 표시 화면, 관리자 대시보드)
+    @GetMapping(value = "/admin/attendances/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@RequestParam String sessionId) {
+        // nginx 프록시가 이벤트를 버퍼링하지 않도록
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(service.subscribe(sessionId));
+    }
+
+    @GetMapping("/admin/attendances/stream/stats")
+    public Map<String, Object> getStreamStats() {
+        return service.getEventStats();
+    }
+
     @GetMapping("/admin/attendances/count")
     public int getAttendanceCount(@RequestParam String sessionId) {
         return service.getAttendanceCount(sessionId);
     }
 
+    // 출석 insert 배치(group commit) 통계
+    @GetMapping("/admin/attendances/batch/stats")
+    public Map<String, Object> getWriteBatchStats() {
+        return service.getWriteBatchStats();
+    }
+
+    // 세션별 출석 비트맵 메모리 사용량
+    @GetMapping("/admin/attendances/bitmap/stats")
+    public Map<String, Object> getBitmapStats() {
+        return service.getBitmapStats();
+    }
+
     // 자동 삭제 설정 확인
     @GetMapping("/admin/attendances/cleanup/status")
     public Map<String, Object> getCleanupStatus() {
@@ -58,11 +140,31 @@ public class AttendanceController {
         );
     }
 
-    // 자동 삭제 수동 실행 (테스트용)
+    // 자동 삭제 수동 실행 (background=true 면 바로 돌아오고 진행 상황은 /cleanup/jobs/{id} 로)
     @PostMapping("/admin/attendances/cleanup/run")
     public Map<String, Object> runCleanup(
-            @RequestParam(required = false, defaultValue = "0") int days) {
-        return cleanupScheduler.runCleanup(days);
+            @RequestParam(required = false, defaultValue = "0") int days,
+            @RequestParam(required = false, defaultValue = "false") boolean background) {
+        try {
+            return cleanupScheduler.runCleanup(days, background);
+        } catch (IllegalStateException e) {
+            // 일부만 지우고 실패 (작업 상태는 /cleanup/jobs 로)
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    // 가장 최근 삭제 작업 진행 상황
+    @GetMapping("/admin/attendances/cleanup/jobs")
+    public AttendancePurgeJob getLatestCleanupJob() {
+        return cleanupScheduler.getJob(null)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "삭제 작업이 없습니다."));
+    }
+
+    // 삭제 작업 진행 상황
+    @GetMapping("/admin/attendances/cleanup/jobs/{id}")
+    public AttendancePurgeJob getCleanupJob(@PathVariable long id) {
+        return cleanupScheduler.getJob(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "삭제 작업이 없습니다."));
     }
 
     // 기간별 출석 내역 삭제
@@ -81,7 +183,11 @@ public class AttendanceController {
             message = "세션의 출석 기록 " + deleted + "건이 삭제되었습니다.";
         } else if (startDate != null && endDate != null) {
             // 기간별 삭제
-            deleted = service.deleteByDateRange(startDate, endDate);
+            try {
+                deleted = service.deleteByDateRange(startDate, endDate);
+            } catch (IllegalStateException e) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+            }
             message = startDate + " ~ " + endDate + " 기간의 출석 기록 " + deleted + "건이 삭제되었습니다.";
         } else {
             return Map.of(
@@ -0,0 +1,137 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.AttendancePartition;
+import com.yourco.qrcheckin.attendance.model.NewAttendance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세션/구역별 출석 인원 집계 (attendance_counts).
+ * 출석 insert/delete 와 같은 트랜잭션에서 증감하므로 통계 조회는 COUNT(*) 없이 집계 행 몇 개만 읽는다.
+ * 세션 합계는 구역 행을 더해서 구한다 (세션당 구역 수만큼의 행).
+ * DB를 직접 고쳐 어긋났으면 rebuild() 로 출석 기록에서 다시 센다.
+ * 구역이 비어 있는 기록(구역 컬럼 추가 전 기록)은 참가자 명단의 현재 구역으로 센다 (기록 자체는 고치지 않는다).
+ */
+@Repository
+@Transactional(readOnly = true)
+public class AttendanceCountsRepository {
+
+    private static final String UPSERT =
+            "INSERT INTO attendance_counts(session_id, district, attended) ";
+    private static final String ON_CONFLICT =
+            " ON CONFLICT(session_id, district) DO UPDATE SET attended = attended + excluded.attended";
+
+    private final JdbcTemplate jdbc;
+    private final AttendancePartitions partitions;
+
+    public AttendanceCountsRepository(JdbcTemplate jdbc, AttendancePartitions partitions) {
+        this.jdbc = jdbc;
+        this.partitions = partitions;
+    }
+
+    /**
+     * 방금 insert 한 출석을 더한다 (호출하는 쪽 트랜잭션 안에서 실행)
+     * @param counts insertBatch 의 건별 반영 행 수 (0이면 중복이라 세지 않음)
+     */
+    @Transactional
+    public void addInserted(List<NewAttendance> rows, int[] counts) {
+        Map<List<String>, Integer> deltas = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (counts[i] == 0) continue;
+            NewAttendance row = rows.get(i);
+            deltas.merge(List.of(row.sessionId(), districtOf(row.district())), 1, Integer::sum);
+        }
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((key, n) -> args.add(new Object[]{key.get(0), key.get(1), n}));
+        jdbc.batchUpdate(UPSERT + "VALUES(?,?,?)" + ON_CONFLICT, args);
+    }
+
+    /**
+     * 지울 출석만큼 뺀다. 같은 트랜잭션에서 DELETE 하기 전에 호출한다.
+     * @param table 출석 테이블 (파티션)
+     * @param where 그 테이블에 대한 조건 (예: "session_id = ?")
+     */
+    @Transactional
+    public void subtractWhere(String table, String where, Object... args) {
+        String district = districtColumn(table);
+        jdbc.update(
+                UPSERT + "SELECT session_id, " + district + ", -COUNT(*) FROM " + table + " WHERE " + where +
+                " GROUP BY session_id, " + district + ON_CONFLICT,
+                args
+        );
+        jdbc.update("DELETE FROM attendance_counts WHERE attended <= 0");
+    }
+
+    /** 구역 -> 출석 인원 (구역 이름순) */
+    public Map<String, Integer> countByDistrict(String sessionId) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        jdbc.query(
+                "SELECT district, attended FROM attendance_counts WHERE session_id = ? ORDER BY district",
+                rs -> {
+                    result.put(rs.getString("district"), rs.getInt("attended"));
+                },
+                sessionId
+        );
+        return result;
+    }
+
+    /** 세션 -> 출석 인원 */
+    public Map<String, Integer> countBySession() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        jdbc.query(
+                "SELECT session_id, SUM(attended) AS attended FROM attendance_counts GROUP BY session_id",
+                rs -> {
+                    result.put(rs.getString("session_id"), rs.getInt("attended"));
+                }
+        );
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return jdbc.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM attendance_counts)", Boolean.class);
+    }
+
+    public boolean hasAttendances() {
+        for (AttendancePartition p : partitions.oldestFirst()) {
+            if (jdbc.queryForObject("SELECT EXISTS (SELECT 1 FROM " + p.table() + ")", Boolean.class)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 출석 기록에서 처음부터 다시 센다. 출석 테이블은 읽기만 한다.
+     * @return 다시 만든 집계 행 수
+     */
+    @Transactional
+    public int rebuild() {
+        jdbc.update("DELETE FROM attendance_counts");
+        for (AttendancePartition p : partitions.oldestFirst()) {
+            String t = p.table();
+            String district = districtColumn(t);
+            jdbc.update(
+                    UPSERT + "SELECT session_id, " + district + ", COUNT(*) FROM " + t + " WHERE 1 = 1 " +
+                    "GROUP BY session_id, " + district + ON_CONFLICT
+            );
+        }
+        return jdbc.queryForObject("SELECT COUNT(*) FROM attendance_counts", Integer.class);
+    }
+
+    private static String districtOf(String district) {
+        return district == null ? "" : district;
+    }
+
+    // 집계에 쓰는 구역: 기록의 구역, 비어 있으면 참가자의 현재 구역
+    private static String districtColumn(String table) {
+        return "COALESCE(NULLIF(" + table + ".district, ''), " +
+                "(SELECT p.district FROM participants p WHERE p.id = " + table + ".participant_id), '')";
+    }
+}
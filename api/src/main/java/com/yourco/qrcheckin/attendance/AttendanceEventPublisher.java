@@ -0,0 +1,270 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.AttendanceLiveEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 실시간 출석 현황 SSE 발행.
+ * 체크인은 커밋 후 checkedIn() 으로 이름만 쌓아두고, 전용 스레드가 주기적으로 모아서 보낸다.
+ * 그래서 한꺼번에 몰려도 구독자 하나가 받는 이벤트는 초당 max-events-per-second 개를 넘지 않는다.
+ * 관리자 화면이 여러 개 열려 있어도 목록/카운트를 다시 조회하지 않는다.
+ * 인원은 메모리 비트맵에서 읽는다. 비트맵이 아직 없으면 (삭제 작업 뒤 등) 발행 스레드는 DB를 읽지 않고
+ * 적재 스레드에 맡긴 뒤 그 세션을 건너뛴다 (다른 세션 이벤트가 밀리지 않게). 적재가 끝나면 다음 주기에 보낸다.
+ */
+@Component
+public class AttendanceEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceEventPublisher.class);
+    private static final String EVENT_NAME = "attendance";
+    // 한 이벤트에 싣는 이름 수 상한 (나머지는 count 로만 반영)
+    private static final int MAX_NAMES_PER_EVENT = 50;
+
+    private final AttendanceBitmaps bitmaps;
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+
+    @Value("${app.attendance.events.max-events-per-second:4}")
+    private int maxEventsPerSecond;
+
+    @Value("${app.attendance.events.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${app.attendance.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService loader;
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder eventsSent = new LongAdder();
+    private final LongAdder checkinsPublished = new LongAdder();
+
+    public AttendanceEventPublisher(AttendanceBitmaps bitmaps) {
+        this.bitmaps = bitmaps;
+    }
+
+    private static final class Channel {
+        final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+        final ReentrantLock lock = new ReentrantLock();
+        List<String> pendingNames = new ArrayList<>();
+        boolean dirty;
+
+        void add(String name) {
+            lock.lock();
+            try {
+                if (pendingNames.size() < MAX_NAMES_PER_EVENT) pendingNames.add(name);
+                dirty = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isDirty() {
+            lock.lock();
+            try {
+                return dirty;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void markDirty() {
+            lock.lock();
+            try {
+                dirty = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 보낼 게 없으면 null
+        List<String> drain() {
+            lock.lock();
+            try {
+                if (!dirty) return null;
+                List<String> names = pendingNames;
+                pendingNames = new ArrayList<>();
+                dirty = false;
+                return names;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "attendance-events");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodMs = Math.max(1, 1000 / Math.max(1, maxEventsPerSecond));
+        scheduler.scheduleWithFixedDelay(this::flush, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        loader = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "attendance-events-load");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        loader.shutdownNow();
+        for (Channel channel : channels.values()) {
+            channel.subscribers.forEach(SseEmitter::complete);
+        }
+        channels.clear();
+    }
+
+    public SseEmitter subscribe(String sessionId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        // 채널 조회와 구독자 추가를 한 번에 (그 사이에 flush 가 빈 채널을 지우면 이벤트를 못 받는다)
+        Channel channel = channels.compute(sessionId, (id, existing) -> {
+            Channel c = existing != null ? existing : new Channel();
+            c.subscribers.add(emitter);
+            return c;
+        });
+
+        Runnable remove = () -> channel.subscribers.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // 접속 직후 현재 인원
+        try {
+            emitter.send(event(new AttendanceLiveEvent(sessionId, bitmaps.count(sessionId), List.of())));
+        } catch (IOException e) {
+            remove.run();
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /** 커밋된 새 출석. 구독자가 없는 세션은 무시한다. */
+    public void checkedIn(String sessionId, String name) {
+        Channel channel = channels.get(sessionId);
+        if (channel == null) return;
+        channel.add(name);
+        checkinsPublished.increment();
+    }
+
+    /** 출석 기록 삭제 등으로 인원이 바뀐 경우 */
+    public void refresh(String sessionId) {
+        Channel channel = channels.get(sessionId);
+        if (channel != null) channel.markDirty();
+    }
+
+    public void refreshAll() {
+        channels.values().forEach(Channel::markDirty);
+    }
+
+    public Map<String, Object> stats() {
+        int subscribers = 0;
+        for (Channel c : channels.values()) subscribers += c.subscribers.size();
+        return Map.of(
+            "sessions", channels.size(),
+            "subscribers", subscribers,
+            "maxEventsPerSecond", maxEventsPerSecond,
+            "eventsSent", eventsSent.sum(),
+            "checkinsPublished", checkinsPublished.sum()
+        );
+    }
+
+    private void flush() {
+        for (var entry : channels.entrySet()) {
+            String sessionId = entry.getKey();
+            Channel channel = entry.getValue();
+            if (channel.subscribers.isEmpty()) {
+                // subscribe() 가 그사이 구독자를 넣었으면 남겨 둔다
+                channels.computeIfPresent(sessionId, (id, c) -> c.subscribers.isEmpty() ? null : c);
+                continue;
+            }
+            if (!channel.isDirty()) continue;
+            OptionalInt loaded = bitmaps.countIfLoaded(sessionId);
+            if (loaded.isEmpty()) {
+                // 보낼 내용은 채널에 남겨 두고 적재가 끝난 뒤 다음 주기에
+                loadInBackground(sessionId);
+                continue;
+            }
+            List<String> names = channel.drain();
+            if (names == null) continue;
+
+            try {
+                int count = bitmaps.countIfLoaded(sessionId).orElse(loaded.getAsInt());
+                AttendanceLiveEvent event = new AttendanceLiveEvent(sessionId, count, names);
+                for (SseEmitter emitter : channel.subscribers) {
+                    if (send(channel, emitter, event(event))) eventsSent.increment();
+                }
+            } catch (RuntimeException e) {
+                log.warn("출석 현황 이벤트 발행 실패: {}", sessionId, e);
+            }
+        }
+    }
+
+    private void loadInBackground(String sessionId) {
+        if (!loading.add(sessionId)) return;
+        try {
+            loader.execute(() -> {
+                try {
+                    bitmaps.count(sessionId);
+                } catch (RuntimeException e) {
+                    log.warn("출석 현황 인원 적재 실패: {}", sessionId, e);
+                } finally {
+                    loading.remove(sessionId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            loading.remove(sessionId);
+        }
+    }
+
+    private void heartbeat() {
+        for (Channel channel : channels.values()) {
+            for (SseEmitter emitter : channel.subscribers) {
+                send(channel, emitter, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    private boolean send(Channel channel, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자
+            channel.subscribers.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(AttendanceLiveEvent data) {
+        return SseEmitter.event().name(EVENT_NAME).data(data, MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,246 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.AttendancePartition;
+import com.yourco.qrcheckin.common.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 출석 기록 테이블 목록 (시간 파티션).
+ * - app.attendance.partition=none  : 기존처럼 attendances 테이블 하나
+ * - app.attendance.partition=month : attendances_yyyyMM 테이블에 월별로 (year 면 attendances_yyyy)
+ * 파티션 테이블은 그 달 첫 출석을 쓸 때 만든다. 기존 attendances 테이블은 가장 오래된 파티션으로 계속 읽는다
+ * (파티션을 켜기 전 기록이므로 모든 파티션보다 오래됐다).
+ * 파티션끼리 기간이 겹치지 않으므로 AttendanceRepository 는 겹치는 파티션만 시간 순서대로 이어 읽는다.
+ * 그래서 파티션을 한 번 만든 뒤에는 단위를 바꿀 수 없다 (none 으로 돌리면 새 기록이 "가장 오래된" attendances 에,
+ * month/year 를 섞으면 기간이 겹치는 테이블이 생긴다). 시작할 때 확인해서 거절한다.
+ * 새 테이블은 DDL 이 커밋된 뒤에 목록에 넣고, 지우는 테이블은 DROP 전에 목록에서 뺀다 (새로 읽는 쪽이 없는 테이블을 보지 않게).
+ * 이미 목록을 받아 읽고 있던 쪽은 AttendanceRepository 가 목록에서 빠진 테이블의 오류를 건너뛴다.
+ */
+@Component
+public class AttendancePartitions {
+
+    public static final String LEGACY_TABLE = "attendances";
+
+    private static final Pattern PARTITION_TABLE = Pattern.compile("attendances_(\\d{4})(\\d{2})?");
+
+    public enum Granularity { NONE, MONTH, YEAR }
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.attendance.partition:none}")
+    private String partition;
+
+    private Granularity granularity;
+
+    // from -> 파티션 (오래된 순)
+    private final ConcurrentSkipListMap<String, AttendancePartition> partitions = new ConcurrentSkipListMap<>();
+    private static final AttendancePartition LEGACY = new AttendancePartition(LEGACY_TABLE, null, null);
+
+    // 세션 -> 그 세션 기록이 있는 테이블 (세션이 여러 파티션에 걸칠 때 중복 출석 확인용, writer 트랜잭션에서만 채운다)
+    private final Map<String, Set<String>> sessionTables = new ConcurrentHashMap<>();
+
+    public AttendancePartitions(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @PostConstruct
+    void load() {
+        granularity = Granularity.valueOf(partition.trim().toUpperCase(Locale.ROOT));
+        List<String> tables = jdbc.queryForList(
+                "SELECT name FROM sqlite_master WHERE type = 'table' AND name GLOB 'attendances_[0-9]*'",
+                String.class
+        );
+        for (String table : tables) {
+            AttendancePartition p = parse(table);
+            if (p == null) continue;
+            Granularity existing = p.from().length() == 4 ? Granularity.YEAR : Granularity.MONTH;
+            if (existing != granularity) {
+                throw new IllegalStateException(
+                        "app.attendance.partition=" + partition + " 로 바꿀 수 없습니다: 이미 "
+                        + existing.name().toLowerCase(Locale.ROOT) + " 단위 파티션(" + table + ")이 있습니다");
+            }
+            partitions.put(p.from(), p);
+        }
+    }
+
+    public Granularity granularity() {
+        return granularity;
+    }
+
+    /** 오래된 순 (기존 attendances 테이블이 맨 앞) */
+    public List<AttendancePartition> oldestFirst() {
+        List<AttendancePartition> result = new ArrayList<>(partitions.size() + 1);
+        result.add(LEGACY);
+        result.addAll(partitions.values());
+        return result;
+    }
+
+    public List<AttendancePartition> newestFirst() {
+        List<AttendancePartition> result = oldestFirst();
+        Collections.reverse(result);
+        return result;
+    }
+
+    /** table 이 아직 목록에 있는지 (DROP 되며 빠졌으면 false) */
+    public boolean isListed(String table) {
+        if (LEGACY_TABLE.equals(table)) return true;
+        for (AttendancePartition p : partitions.values()) {
+            if (p.table().equals(table)) return true;
+        }
+        return false;
+    }
+
+    /** [start, endExclusive) 와 겹치는 파티션, 오래된 순 (null = 제한 없음) */
+    public List<AttendancePartition> overlapping(String start, String endExclusive) {
+        List<AttendancePartition> result = new ArrayList<>();
+        for (AttendancePartition p : oldestFirst()) {
+            if (p.overlaps(start, endExclusive)) result.add(p);
+        }
+        return result;
+    }
+
+    /**
+     * checkedInAt 기록을 쓸 테이블. 파티션 테이블이 없으면 만든다 (호출하는 쪽 writer 트랜잭션 안에서).
+     */
+    public String tableForWrite(String checkedInAt) {
+        if (granularity == Granularity.NONE) return LEGACY_TABLE;
+
+        String from = granularity == Granularity.MONTH ? checkedInAt.substring(0, 7) : checkedInAt.substring(0, 4);
+        AttendancePartition existing = partitions.get(from);
+        if (existing != null) return existing.table();
+
+        AttendancePartition created = granularity == Granularity.MONTH
+                ? monthPartition(YearMonth.parse(from))
+                : yearPartition(Year.parse(from));
+        createTable(created.table());
+        TransactionHooks.afterCommit(() -> partitions.putIfAbsent(created.from(), created));
+        return created.table();
+    }
+
+    /**
+     * 파티션 테이블을 통째로 지운다 (호출하는 쪽 트랜잭션 안에서).
+     * 목록에서 먼저 빼서 새로 읽는 쪽은 DROP 된 테이블을 조회하지 않는다. 롤백되면 다시 넣는다.
+     */
+    public void drop(AttendancePartition p) {
+        if (p.isLegacy()) throw new IllegalArgumentException("기존 attendances 테이블은 지울 수 없습니다");
+        partitions.remove(p.from(), p);
+        sessionTables.clear();
+        TransactionHooks.afterRollback(() -> {
+            partitions.putIfAbsent(p.from(), p);
+            sessionTables.clear();
+        });
+        jdbc.execute("DROP TABLE IF EXISTS " + p.table());
+    }
+
+    /**
+     * 세션 기록이 있는 테이블 (writer 트랜잭션 안에서 호출).
+     * 처음 물어볼 때 파티션마다 (session_id, ...) 인덱스로 한 번씩 확인하고 기억한다.
+     */
+    Set<String> tablesWithSession(String sessionId) {
+        Set<String> tables = sessionTables.get(sessionId);
+        if (tables != null) return tables;
+
+        Set<String> found = ConcurrentHashMap.newKeySet();
+        for (AttendancePartition p : oldestFirst()) {
+            Boolean exists = jdbc.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + p.table() + " WHERE session_id = ?)",
+                    Boolean.class,
+                    sessionId
+            );
+            if (Boolean.TRUE.equals(exists)) found.add(p.table());
+        }
+        sessionTables.put(sessionId, found);
+        return found;
+    }
+
+    /** insert 커밋 후: 세션 기록이 table 에 생겼다 */
+    void recordSessionTable(String sessionId, String table) {
+        Set<String> tables = sessionTables.get(sessionId);
+        if (tables != null) tables.add(table);
+    }
+
+    /** 기록을 지운 뒤: 어느 테이블에 남았는지 다시 확인하도록 */
+    void forgetSessionTables() {
+        sessionTables.clear();
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+            "granularity", granularity.name().toLowerCase(Locale.ROOT),
+            "partitions", partitions.size(),
+            "cachedSessions", sessionTables.size()
+        );
+    }
+
+    private void createTable(String table) {
+        Boolean exists = jdbc.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?)",
+                Boolean.class,
+                table
+        );
+        if (Boolean.TRUE.equals(exists)) return;
+
+        jdbc.execute(
+                "CREATE TABLE IF NOT EXISTS " + table + " (" +
+                "  id             INTEGER PRIMARY KEY AUTOINCREMENT," +
+                "  session_id     TEXT NOT NULL," +
+                "  session_title  TEXT NOT NULL," +
+                "  participant_id INTEGER NOT NULL," +
+                "  name           TEXT NOT NULL," +
+                "  phone          TEXT NOT NULL," +
+                "  phone_last4    TEXT NOT NULL," +
+                "  checked_in_at  TEXT NOT NULL," +
+                "  ip             TEXT," +
+                "  user_agent     TEXT," +
+                "  district       TEXT DEFAULT ''," +
+                "  UNIQUE(session_id, participant_id)" +
+                ")"
+        );
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_checked_in ON " + table + "(checked_in_at, id)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_session_checked_in ON " + table + "(session_id, checked_in_at, id)");
+        // id 는 테이블마다 따로 매겨지므로 지금까지 쓴 가장 큰 id 다음부터 시작 (파티션을 넘어도 id 가 겹치지 않게)
+        jdbc.update(
+                "INSERT INTO sqlite_sequence(name, seq) " +
+                "SELECT ?, COALESCE(MAX(seq), 0) FROM sqlite_sequence WHERE name = ? OR name GLOB 'attendances_[0-9]*'",
+                table, LEGACY_TABLE
+        );
+    }
+
+    private static AttendancePartition parse(String table) {
+        Matcher m = PARTITION_TABLE.matcher(table);
+        if (!m.matches()) return null;
+        int year = Integer.parseInt(m.group(1));
+        if (m.group(2) == null) return yearPartition(Year.of(year));
+        int month = Integer.parseInt(m.group(2));
+        if (month < 1 || month > 12) return null;
+        return monthPartition(YearMonth.of(year, month));
+    }
+
+    private static AttendancePartition monthPartition(YearMonth month) {
+        return new AttendancePartition(
+                "attendances_" + String.format("%04d%02d", month.getYear(), month.getMonthValue()),
+                month.toString(),
+                month.plusMonths(1).toString()
+        );
+    }
+
+    private static AttendancePartition yearPartition(Year year) {
+        return new AttendancePartition("attendances_" + year, year.toString(), year.plusYears(1).toString());
+    }
+}
@@ -0,0 +1,120 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.AttendancePurgeJob;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public class AttendancePurgeJobRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public AttendancePurgeJobRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    private static final RowMapper<AttendancePurgeJob> MAPPER = (rs, rowNum) -> new AttendancePurgeJob(
+            rs.getLong("id"),
+            rs.getString("reason"),
+            rs.getString("range_start"),
+            rs.getString("range_end"),
+            rs.getString("status"),
+            rs.getLong("total"),
+            rs.getLong("deleted"),
+            rs.getString("archive_status"),
+            rs.getLong("archived"),
+            rs.getString("error"),
+            rs.getString("created_at"),
+            rs.getString("updated_at")
+    );
+
+    /** @param archive true 면 지우기 전에 보관 파일부터 쓴다 */
+    @Transactional
+    public long create(String reason, String rangeStart, String rangeEnd, long total, boolean archive) {
+        String now = OffsetDateTime.now().toString();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO attendance_purge_jobs(reason, range_start, range_end, status, total, deleted, archive_status, archived, created_at, updated_at) " +
+                    "VALUES(?,?,?,?,?,0,?,0,?,?)",
+                    Statement.RETURN_GENERATED_KEYS
+            );
+            ps.setString(1, reason);
+            ps.setString(2, rangeStart);
+            ps.setString(3, rangeEnd);
+            ps.setString(4, AttendancePurgeJob.RUNNING);
+            ps.setLong(5, total);
+            ps.setString(6, archive ? AttendancePurgeJob.PENDING : null);
+            ps.setString(7, now);
+            ps.setString(8, now);
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+
+    /** 청크를 지운 트랜잭션 안에서 호출 (삭제와 진행 상황이 같이 커밋되도록) */
+    @Transactional
+    public void addDeleted(long id, int deleted) {
+        jdbc.update(
+                "UPDATE attendance_purge_jobs SET deleted = deleted + ?, updated_at = ? WHERE id = ?",
+                deleted, OffsetDateTime.now().toString(), id
+        );
+    }
+
+    @Transactional
+    public void archiveDone(long id, long archived) {
+        jdbc.update(
+                "UPDATE attendance_purge_jobs SET archive_status = ?, archived = ?, updated_at = ? WHERE id = ?",
+                AttendancePurgeJob.DONE, archived, OffsetDateTime.now().toString(), id
+        );
+    }
+
+    @Transactional
+    public void finish(long id, String status, String error) {
+        jdbc.update(
+                "UPDATE attendance_purge_jobs SET status = ?, error = ?, updated_at = ? WHERE id = ?",
+                status, error, OffsetDateTime.now().toString(), id
+        );
+    }
+
+    /** 실패한 작업을 다시 진행할 수 있게 RUNNING 으로 되돌린다 */
+    @Transactional
+    public void reopen(long id) {
+        jdbc.update(
+                "UPDATE attendance_purge_jobs SET status = ?, error = NULL, updated_at = ? WHERE id = ?",
+                AttendancePurgeJob.RUNNING, OffsetDateTime.now().toString(), id
+        );
+    }
+
+    public Optional<AttendancePurgeJob> findById(long id) {
+        return jdbc.query("SELECT * FROM attendance_purge_jobs WHERE id = ?", MAPPER, id).stream().findFirst();
+    }
+
+    public Optional<AttendancePurgeJob> findLatest() {
+        return jdbc.query("SELECT * FROM attendance_purge_jobs ORDER BY id DESC LIMIT 1", MAPPER).stream().findFirst();
+    }
+
+    public List<AttendancePurgeJob> findRunning() {
+        return jdbc.query("SELECT * FROM attendance_purge_jobs WHERE status = ? ORDER BY id", MAPPER, AttendancePurgeJob.RUNNING);
+    }
+
+    /** [rangeStart, rangeEnd) 와 겹치는, 보관하는 작업 중 실패한 것 */
+    public List<AttendancePurgeJob> findFailedArchiving(String rangeStart, String rangeEnd) {
+        return jdbc.query(
+                "SELECT * FROM attendance_purge_jobs WHERE status = ? AND archive_status IS NOT NULL " +
+                "AND range_start < ? AND range_end > ? ORDER BY id",
+                MAPPER, AttendancePurgeJob.FAILED, rangeEnd, rangeStart
+        );
+    }
+}
@@ -0,0 +1,206 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.AttendancePurgeJob;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출석 기록 대량 삭제.
+ * 한 번에 chunk-size 건씩 각자 짧은 트랜잭션으로 지우고, 청크 사이에 pause-ms 만큼 쉬어
+ * writer 커넥션을 체크인 배치에 양보한다 (DELETE 하나로 지우면 끝날 때까지 체크인이 멈춘다).
+ * 작업과 진행 상황은 attendance_purge_jobs 에 남긴다. 청크 삭제와 진행 상황은 같이 커밋되고,
+ * 종료/재시작으로 끊긴 작업(RUNNING)은 시작할 때 이어서 진행한다 (이미 지운 기록은 조건에 걸리지 않음).
+ * 보관하는 작업은 월별 보관 파일(AttendanceArchive)을 다 쓴 뒤에야 지우기 시작한다.
+ * 범위가 겹치는 보관 작업이 실패한 채 남아 있으면 그 작업부터 다시 진행한다
+ * (새 작업이 남은 기록을 다른 파일 이름으로 또 보관하면 보관 파일에 같은 행이 두 번 들어간다).
+ * 파티션을 쓰면 범위 안에 통째로 들어가는 파티션은 청크 하나로 DROP 된다.
+ */
+@Component
+public class AttendancePurger {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendancePurger.class);
+
+    private final AttendanceRepository attendanceRepo;
+    private final AttendancePurgeJobRepository jobRepo;
+    private final AttendanceBitmaps bitmaps;
+    private final AttendanceEventPublisher events;
+    private final AttendanceArchive archive;
+    private final TransactionTemplate tx;
+
+    @Value("${app.attendance.purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.attendance.purge.pause-ms:20}")
+    private long pauseMs;
+
+    private ExecutorService background;
+    private volatile boolean stopping;
+
+    public AttendancePurger(AttendanceRepository attendanceRepo,
+                            AttendancePurgeJobRepository jobRepo,
+                            AttendanceBitmaps bitmaps,
+                            AttendanceEventPublisher events,
+                            AttendanceArchive archive,
+                            PlatformTransactionManager txManager) {
+        this.attendanceRepo = attendanceRepo;
+        this.jobRepo = jobRepo;
+        this.bitmaps = bitmaps;
+        this.events = events;
+        this.archive = archive;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    @PostConstruct
+    void start() {
+        // 백그라운드 작업은 한 번에 하나씩 (겹치는 범위를 동시에 지울 이유가 없다)
+        background = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "attendance-purge");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void resumeUnfinished() {
+        for (AttendancePurgeJob job : jobRepo.findRunning()) {
+            log.info("중단된 출석 기록 삭제 작업 #{} 이어서 진행 ({}/{}건 삭제됨)", job.id(), job.deleted(), job.total());
+            background.execute(() -> runInBackground(job.id()));
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // 진행 중인 작업은 RUNNING 으로 남겨 두고 다음 시작 때 이어서
+        stopping = true;
+        background.shutdownNow();
+        background.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 작업을 만들고 호출한 스레드에서 끝까지 진행한다
+     * @param archiveFirst true 면 지우기 전에 보관 파일부터 쓴다
+     * @throws IllegalStateException 끝까지 지우지 못했을 때 (실패는 작업에도 FAILED 로 남는다)
+     */
+    public AttendancePurgeJob runNow(String reason, String start, String endExclusive, boolean archiveFirst) {
+        if (archiveFirst) {
+            try {
+                finishFailedArchiving(start, endExclusive);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("실패한 이전 출석 기록 삭제 작업을 끝내지 못했습니다: " + e.getMessage(), e);
+            }
+        }
+        long id = create(reason, start, endExclusive, archiveFirst);
+        try {
+            run(id);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("출석 기록 삭제 작업 #" + id + " 실패: " + e.getMessage(), e);
+        }
+        AttendancePurgeJob job = find(id).orElseThrow();
+        if (!AttendancePurgeJob.DONE.equals(job.status())) {
+            // 종료 중이라 멈춘 경우 (RUNNING 으로 남아 다음 시작 때 이어서 진행)
+            throw new IllegalStateException("출석 기록 삭제 작업 #" + id + "이 끝나지 않았습니다 (" + job.deleted() + "/" + job.total() + "건 삭제됨)");
+        }
+        return job;
+    }
+
+    /** 작업을 만들고 백그라운드에서 진행한다. 진행 상황은 find(id) 로 확인 */
+    public AttendancePurgeJob startInBackground(String reason, String start, String endExclusive, boolean archiveFirst) {
+        long id = create(reason, start, endExclusive, archiveFirst);
+        background.execute(() -> {
+            if (archiveFirst) {
+                try {
+                    finishFailedArchiving(start, endExclusive);
+                } catch (RuntimeException e) {
+                    log.warn("출석 기록 삭제 작업 #{}: 실패한 이전 작업을 끝내지 못해 시작하지 않음", id, e);
+                    jobRepo.finish(id, AttendancePurgeJob.FAILED, "이전 작업 실패: " + e.getMessage());
+                    return;
+                }
+            }
+            runInBackground(id);
+        });
+        return find(id).orElseThrow();
+    }
+
+    public Optional<AttendancePurgeJob> find(long id) {
+        return jobRepo.findById(id);
+    }
+
+    public Optional<AttendancePurgeJob> latest() {
+        return jobRepo.findLatest();
+    }
+
+    private long create(String reason, String start, String endExclusive, boolean archiveFirst) {
+        long total = attendanceRepo.countInRange(start, endExclusive);
+        return jobRepo.create(reason, start, endExclusive, total, archiveFirst);
+    }
+
+    private void finishFailedArchiving(String start, String endExclusive) {
+        for (AttendancePurgeJob job : jobRepo.findFailedArchiving(start, endExclusive)) {
+            log.info("실패한 출석 기록 삭제 작업 #{} 다시 진행 ({}/{}건 삭제됨)", job.id(), job.deleted(), job.total());
+            jobRepo.reopen(job.id());
+            run(job.id());
+        }
+    }
+
+    // 백그라운드 실패는 작업에 FAILED 로 남기고 로그만 (받아 줄 호출자가 없다)
+    private void runInBackground(long id) {
+        try {
+            run(id);
+        } catch (RuntimeException e) {
+            log.warn("출석 기록 삭제 작업 #{} 실패", id, e);
+        }
+    }
+
+    /** 실패하면 작업을 FAILED 로 남기고 예외를 그대로 던진다 */
+    private void run(long id) {
+        AttendancePurgeJob job = find(id).orElse(null);
+        if (job == null || !job.isRunning()) return;
+
+        long deleted = 0;
+        try {
+            if (job.needsArchive()) {
+                long archived = archive.archive(id, job.rangeStart(), job.rangeEnd());
+                jobRepo.archiveDone(id, archived);
+                log.info("출석 기록 삭제 작업 #{}: {}건 보관", id, archived);
+            }
+            while (!stopping) {
+                int n = tx.execute(status -> {
+                    int chunk = attendanceRepo.deleteChunk(job.rangeStart(), job.rangeEnd(), chunkSize);
+                    if (chunk > 0) jobRepo.addDeleted(id, chunk);
+                    return chunk;
+                });
+                deleted += n;
+                // 파티션 DROP 은 chunk-size 보다 많이, 걸친 파티션 끝은 적게 지우므로 0건일 때 끝
+                if (n == 0) {
+                    jobRepo.finish(id, AttendancePurgeJob.DONE, null);
+                    log.info("출석 기록 삭제 작업 #{} 완료 ({}건)", id, job.deleted() + deleted);
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            jobRepo.finish(id, AttendancePurgeJob.FAILED, String.valueOf(e.getMessage()));
+            throw e;
+        } finally {
+            if (deleted > 0) {
+                bitmaps.evictAll();
+                events.refreshAll();
+            }
+        }
+    }
+}
@@ -1,95 +1,363 @@
 package com.yourco.qrcheckin.attendance;
 
+import com.yourco.qrcheckin.attendance.model.AttendanceCursor;
+import com.yourco.qrcheckin.attendance.model.AttendancePartition;
 import com.yourco.qrcheckin.attendance.model.AttendanceRecord;
+import com.yourco.qrcheckin.attendance.model.NewAttendance;
+import com.yourco.qrcheckin.common.util.TransactionHooks;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
+/**
+ * 출석 기록 읽기/쓰기. 테이블은 AttendancePartitions 가 정한다 (파티션을 쓰지 않으면 attendances 하나).
+ * 읽기는 조건 기간과 겹치는 파티션만, 시간 순서대로 이어 읽고 limit 이 차면 멈춘다.
+ * 파티션 목록을 받은 뒤 그 파티션이 DROP 되면 (보관 기간 정리) 그 파티션은 건너뛴다 (onPartition).
+ */
 @Repository
+@Transactional(readOnly = true)
 public class AttendanceRepository {
 
     private final JdbcTemplate jdbc;
+    private final AttendanceCountsRepository counts;
+    private final AttendancePartitions partitions;
 
-    public AttendanceRepository(JdbcTemplate jdbc) {
+    public AttendanceRepository(JdbcTemplate jdbc, AttendanceCountsRepository counts, AttendancePartitions partitions) {
         this.jdbc = jdbc;
+        this.counts = counts;
+        this.partitions = partitions;
     }
 
-    public int insert(String sessionId, String sessionTitle, long participantId, String name, String phone, String phoneLast4, 
-                      String checkedInAt, String ip, String userAgent) {
-        return jdbc.update(
-                "INSERT INTO attendances(session_id, session_title, participant_id, name, phone, phone_last4, checked_in_at, ip, user_agent) VALUES(?,?,?,?,?,?,?,?,?)",
-                sessionId, sessionTitle, participantId, name, phone, phoneLast4, checkedInAt, ip, userAgent
-        );
+    /**
+     * 여러 건을 한 번에 insert (호출하는 쪽 트랜잭션 안에서 실행)
+     * 세션/구역별 집계도 같은 트랜잭션에서 더한다.
+     * @return 건별 반영 행 수 (0이면 이미 출석한 참가자)
+     */
+    @Transactional
+    public int[] insertBatch(List<NewAttendance> rows) {
+        int[] inserted = new int[rows.size()];
+
+        // 같은 배치는 대개 출석 시각이 같아 테이블 하나
+        Map<String, List<Integer>> byTable = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String table = partitions.tableForWrite(rows.get(i).checkedInAt());
+            byTable.computeIfAbsent(table, t -> new ArrayList<>()).add(i);
+        }
+
+        boolean partitioned = partitions.granularity() != AttendancePartitions.Granularity.NONE
+                || partitions.oldestFirst().size() > 1;
+        for (Map.Entry<String, List<Integer>> e : byTable.entrySet()) {
+            String table = e.getKey();
+            List<Integer> indexes = new ArrayList<>(e.getValue().size());
+            for (int i : e.getValue()) {
+                // UNIQUE(session_id, participant_id) 는 테이블 안에서만 걸리므로 세션이 걸친 다른 파티션은 직접 확인
+                if (partitioned && existsElsewhere(rows.get(i), table)) continue;
+                indexes.add(i);
+            }
+            if (indexes.isEmpty()) continue;
+
+            int[] result = jdbc.batchUpdate(
+                    // 중복 출석(UNIQUE 충돌)만 0건으로 넘기고, 다른 제약 위반(NOT NULL 등)은 그대로 실패
+                    "INSERT INTO " + table + "(session_id, session_title, participant_id, name, phone, phone_last4, district, checked_in_at, ip, user_agent) VALUES(?,?,?,?,?,?,?,?,?,?) " +
+                    "ON CONFLICT(session_id, participant_id) DO NOTHING",
+                    indexes,
+                    indexes.size(),
+                    (ps, i) -> {
+                        NewAttendance row = rows.get(i);
+                        ps.setString(1, row.sessionId());
+                        ps.setString(2, row.sessionTitle());
+                        ps.setLong(3, row.participantId());
+                        ps.setString(4, row.name());
+                        ps.setString(5, row.phone());
+                        ps.setString(6, row.phoneLast4());
+                        ps.setString(7, row.district() != null ? row.district() : "");
+                        ps.setString(8, row.checkedInAt());
+                        ps.setString(9, row.ip());
+                        ps.setString(10, row.userAgent());
+                    }
+            )[0];
+            for (int k = 0; k < indexes.size(); k++) {
+                int i = indexes.get(k);
+                inserted[i] = result[k];
+                if (partitioned && result[k] != 0) {
+                    String sessionId = rows.get(i).sessionId();
+                    TransactionHooks.afterCommit(() -> partitions.recordSessionTable(sessionId, table));
+                }
+            }
+        }
+        counts.addInserted(rows, inserted);
+        return inserted;
     }
 
+    private boolean existsElsewhere(NewAttendance row, String table) {
+        for (String other : partitions.tablesWithSession(row.sessionId())) {
+            if (other.equals(table)) continue;
+            Boolean exists = onPartition(other, false, () -> jdbc.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + other + " WHERE session_id = ? AND participant_id = ?)",
+                    Boolean.class,
+                    row.sessionId(), row.participantId()
+            ));
+            if (Boolean.TRUE.equals(exists)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 파티션 하나를 읽는다. 목록을 받은 뒤 그 파티션이 DROP 됐으면 (no such table) 빈 결과로 본다
+     * (DROP 은 범위 안 기록을 모두 지운 것이므로 결과가 같다). 목록에 남아 있는 테이블의 오류는 그대로 던진다.
+     */
+    private <T> T onPartition(String table, T ifDropped, Supplier<T> query) {
+        try {
+            return query.get();
+        } catch (DataAccessException e) {
+            if (partitions.isListed(table)) throw e;
+            return ifDropped;
+        }
+    }
+
+    private static String selectRecord(String table) {
+        return "SELECT a.id, a.session_id, a.session_title, a.participant_id, a.name, a.phone, a.phone_last4, " +
+               "COALESCE(p.district, '') as district, a.checked_in_at " +
+               "FROM " + table + " a LEFT JOIN participants p ON a.participant_id = p.id ";
+    }
+
+    private static final RowMapper<AttendanceRecord> MAPPER = (rs, rowNum) -> new AttendanceRecord(
+            rs.getLong("id"),
+            rs.getString("session_id"),
+            rs.getString("session_title"),
+            rs.getLong("participant_id"),
+            rs.getString("name"),
+            rs.getString("phone"),
+            rs.getString("phone_last4"),
+            rs.getString("district"),
+            rs.getString("checked_in_at")
+    );
+
     public List<AttendanceRecord> findAll() {
-        return jdbc.query(
-                "SELECT a.id, a.session_id, a.session_title, a.participant_id, a.name, a.phone, a.phone_last4, " +
-                "COALESCE(p.district, '') as district, a.checked_in_at " +
-                "FROM attendances a LEFT JOIN participants p ON a.participant_id = p.id " +
-                "ORDER BY a.checked_in_at DESC",
-                (rs, rowNum) -> new AttendanceRecord(
-                        rs.getLong("id"),
-                        rs.getString("session_id"),
-                        rs.getString("session_title"),
-                        rs.getLong("participant_id"),
-                        rs.getString("name"),
-                        rs.getString("phone"),
-                        rs.getString("phone_last4"),
-                        rs.getString("district"),
-                        rs.getString("checked_in_at")
-                )
-        );
+        List<AttendanceRecord> result = new ArrayList<>();
+        for (AttendancePartition p : partitions.newestFirst()) {
+            result.addAll(onPartition(p.table(), List.of(), () ->
+                    jdbc.query(selectRecord(p.table()) + "ORDER BY a.checked_in_at DESC", MAPPER)));
+        }
+        return result;
     }
 
     public List<AttendanceRecord> findBySessionId(String sessionId) {
-        return jdbc.query(
-                "SELECT a.id, a.session_id, a.session_title, a.participant_id, a.name, a.phone, a.phone_last4, " +
-                "COALESCE(p.district, '') as district, a.checked_in_at " +
-                "FROM attendances a LEFT JOIN participants p ON a.participant_id = p.id " +
-                "WHERE a.session_id = ? ORDER BY a.checked_in_at DESC",
-                (rs, rowNum) -> new AttendanceRecord(
-                        rs.getLong("id"),
-                        rs.getString("session_id"),
-                        rs.getString("session_title"),
-                        rs.getLong("participant_id"),
-                        rs.getString("name"),
-                        rs.getString("phone"),
-                        rs.getString("phone_last4"),
-                        rs.getString("district"),
-                        rs.getString("checked_in_at")
-                ),
-                sessionId
-        );
+        List<AttendanceRecord> result = new ArrayList<>();
+        for (AttendancePartition p : partitions.newestFirst()) {
+            result.addAll(onPartition(p.table(), List.of(), () ->
+                    jdbc.query(selectRecord(p.table()) + "WHERE a.session_id = ? ORDER BY a.checked_in_at DESC", MAPPER, sessionId)));
+        }
+        return result;
+    }
+
+    /**
+     * 최신순 한 페이지. before 가 있으면 그보다 오래된 것부터.
+     * (checked_in_at, id) 인덱스를 따라 읽으므로 기록이 아무리 많아도 limit 건만 읽는다.
+     * cursor 보다 새 파티션은 건너뛰고, 최신 파티션부터 limit 이 찰 때까지 이어 읽는다.
+     */
+    public List<AttendanceRecord> findPage(String sessionId, AttendanceCursor before, int limit) {
+        return findPage(sessionId, null, null, null, before, limit);
+    }
+
+    /**
+     * 내보내기용 최신순 한 페이지 (조건은 findPage + 기간/구역).
+     * 날짜 조건은 checked_in_at 문자열 비교 (endExclusive 는 다음 날 0시).
+     * 페이지마다 짧은 읽기 트랜잭션이라 느린 다운로드가 reader 커넥션을 붙잡지 않는다.
+     */
+    public List<AttendanceRecord> findExportPage(String sessionId, String start, String endExclusive, String district,
+                                                 AttendanceCursor before, int limit) {
+        return findPage(sessionId, start, endExclusive, district, before, limit);
+    }
+
+    private List<AttendanceRecord> findPage(String sessionId, String start, String endExclusive, String district,
+                                            AttendanceCursor before, int limit) {
+        List<AttendanceRecord> result = new ArrayList<>();
+        List<AttendancePartition> targets = partitions.overlapping(start, endExclusive);
+        for (int i = targets.size() - 1; i >= 0 && result.size() < limit; i--) {
+            AttendancePartition p = targets.get(i);
+            if (before != null && !p.overlaps(null, before.checkedInAt())) continue;
+
+            StringBuilder sql = new StringBuilder(selectRecord(p.table())).append("WHERE 1=1 ");
+            List<Object> args = new ArrayList<>();
+            if (sessionId != null) {
+                sql.append("AND a.session_id = ? ");
+                args.add(sessionId);
+            }
+            if (start != null) {
+                sql.append("AND a.checked_in_at >= ? ");
+                args.add(start);
+            }
+            if (endExclusive != null) {
+                sql.append("AND a.checked_in_at < ? ");
+                args.add(endExclusive);
+            }
+            if (district != null) {
+                sql.append("AND p.district = ? ");
+                args.add(district);
+            }
+            if (before != null) {
+                sql.append("AND (a.checked_in_at, a.id) < (?, ?) ");
+                args.add(before.checkedInAt());
+                args.add(before.id());
+            }
+            sql.append("ORDER BY a.checked_in_at DESC, a.id DESC LIMIT ?");
+            args.add(limit - result.size());
+            result.addAll(onPartition(p.table(), List.of(), () -> jdbc.query(sql.toString(), MAPPER, args.toArray())));
+        }
+        return result;
+    }
+
+    /** after 이후에 추가된 기록 (추가된 순서) */
+    public List<AttendanceRecord> findSince(String sessionId, AttendanceCursor after, int limit) {
+        List<AttendanceRecord> result = new ArrayList<>();
+        for (AttendancePartition p : partitions.overlapping(after.checkedInAt(), null)) {
+            if (result.size() >= limit) break;
+
+            StringBuilder sql = new StringBuilder(selectRecord(p.table())).append("WHERE (a.checked_in_at, a.id) > (?, ?) ");
+            List<Object> args = new ArrayList<>(List.of(after.checkedInAt(), after.id()));
+            if (sessionId != null) {
+                sql.append("AND a.session_id = ? ");
+                args.add(sessionId);
+            }
+            sql.append("ORDER BY a.checked_in_at, a.id LIMIT ?");
+            args.add(limit - result.size());
+            result.addAll(onPartition(p.table(), List.of(), () -> jdbc.query(sql.toString(), MAPPER, args.toArray())));
+        }
+        return result;
+    }
+
+    /**
+     * 보관용: [start, endExclusive) 기록을 오래된 순서로 한 건씩 넘긴다.
+     * 구역은 출석 당시 값, 없으면(구역 컬럼 추가 전 기록) 명단의 현재 구역.
+     */
+    public void forEachForArchive(String start, String endExclusive, Consumer<AttendanceRecord> action) {
+        for (AttendancePartition p : partitions.overlapping(start, endExclusive)) {
+            onPartition(p.table(), null, () -> {
+                jdbc.query(
+                        "SELECT a.id, a.session_id, a.session_title, a.participant_id, a.name, a.phone, a.phone_last4, " +
+                        "COALESCE(NULLIF(a.district, ''), p.district, '') as district, a.checked_in_at " +
+                        "FROM " + p.table() + " a LEFT JOIN participants p ON a.participant_id = p.id " +
+                        "WHERE a.checked_in_at >= ? AND a.checked_in_at < ? ORDER BY a.checked_in_at, a.id",
+                        (RowCallbackHandler) rs -> action.accept(MAPPER.mapRow(rs, 0)),
+                        start, endExclusive
+                );
+                return null;
+            });
+        }
+    }
+
+    public void forEachParticipantId(String sessionId, LongConsumer action) {
+        for (AttendancePartition p : partitions.oldestFirst()) {
+            onPartition(p.table(), null, () -> {
+                jdbc.query(
+                        "SELECT participant_id FROM " + p.table() + " WHERE session_id = ?",
+                        rs -> {
+                            action.accept(rs.getLong(1));
+                        },
+                        sessionId
+                );
+                return null;
+            });
+        }
     }
 
     public int countBySessionId(String sessionId) {
-        return jdbc.queryForObject(
-                "SELECT COUNT(*) FROM attendances WHERE session_id = ?",
-                Integer.class,
-                sessionId
-        );
+        int total = 0;
+        for (AttendancePartition p : partitions.oldestFirst()) {
+            total += onPartition(p.table(), 0, () -> jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM " + p.table() + " WHERE session_id = ?",
+                    Integer.class,
+                    sessionId
+            ));
+        }
+        return total;
     }
 
-    public int deleteOlderThan(String cutoffDate) {
-        return jdbc.update(
-                "DELETE FROM attendances WHERE checked_in_at < ?",
-                cutoffDate
-        );
+    public long countInRange(String start, String endExclusive) {
+        long total = 0;
+        for (AttendancePartition p : partitions.overlapping(start, endExclusive)) {
+            total += onPartition(p.table(), 0L, () -> jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM " + p.table() + " WHERE checked_in_at >= ? AND checked_in_at < ?",
+                    Long.class,
+                    start, endExclusive
+            ));
+        }
+        return total;
+    }
+
+    /**
+     * checked_in_at 이 [start, endExclusive) 인 기록 중 오래된 것부터 지운다.
+     * - 범위 안에 통째로 들어가는 파티션은 DROP TABLE 로 한 번에 (행마다 지우지 않음)
+     * - 걸치는 파티션은 limit 건씩: (checked_in_at, id) 인덱스로 이번 청크의 마지막 키를 찾고
+     *   그 키까지만 지우므로 한 번에 읽고 지우는 양이 limit 건으로 묶이고, 쓰기 락도 그동안만 잡는다.
+     * @return 지운 건수 (0이면 남은 기록 없음)
+     */
+    @Transactional
+    public int deleteChunk(String start, String endExclusive, int limit) {
+        for (AttendancePartition p : partitions.overlapping(start, endExclusive)) {
+            int deleted = p.within(start, endExclusive)
+                    ? dropPartition(p)
+                    : deleteChunk(p.table(), start, endExclusive, limit);
+            if (deleted > 0) {
+                TransactionHooks.afterCommit(partitions::forgetSessionTables);
+                return deleted;
+            }
+        }
+        return 0;
+    }
+
+    private int dropPartition(AttendancePartition p) {
+        int rows = jdbc.queryForObject("SELECT COUNT(*) FROM " + p.table(), Integer.class);
+        counts.subtractWhere(p.table(), "1 = 1");
+        partitions.drop(p);
+        return rows;
     }
 
-    public int deleteByDateRange(String startDate, String endDate) {
-        return jdbc.update(
-                "DELETE FROM attendances WHERE checked_in_at >= ? AND checked_in_at < ?",
-                startDate, endDate
+    private int deleteChunk(String table, String start, String endExclusive, int limit) {
+        List<Object[]> last = jdbc.query(
+                "SELECT checked_in_at, id FROM " + table + " WHERE checked_in_at >= ? AND checked_in_at < ? " +
+                "ORDER BY checked_in_at, id LIMIT 1 OFFSET ?",
+                (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)},
+                start, endExclusive, limit - 1
         );
+        String where;
+        Object[] args;
+        if (last.isEmpty()) {
+            // 남은 게 limit 건보다 적으면 범위 끝까지
+            where = "checked_in_at >= ? AND checked_in_at < ?";
+            args = new Object[]{start, endExclusive};
+        } else {
+            String lastAt = (String) last.get(0)[0];
+            where = "checked_in_at >= ? AND checked_in_at <= ? AND (checked_in_at, id) <= (?, ?)";
+            args = new Object[]{start, lastAt, lastAt, last.get(0)[1]};
+        }
+        counts.subtractWhere(table, where, args);
+        return jdbc.update("DELETE FROM " + table + " WHERE " + where, args);
     }
 
+    @Transactional
     public int deleteBySessionId(String sessionId) {
-        return jdbc.update(
-                "DELETE FROM attendances WHERE session_id = ?",
-                sessionId
-        );
+        int deleted = 0;
+        for (AttendancePartition p : partitions.oldestFirst()) {
+            counts.subtractWhere(p.table(), "session_id = ?", sessionId);
+            deleted += jdbc.update(
+                    "DELETE FROM " + p.table() + " WHERE session_id = ?",
+                    sessionId
+            );
+        }
+        TransactionHooks.afterCommit(partitions::forgetSessionTables);
+        return deleted;
     }
-}
\ No newline at end of file
+}
@@ -1,74 +1,129 @@
 package com.yourco.qrcheckin.attendance;
 
+import com.yourco.qrcheckin.attendance.CheckinMetrics.Outcome;
+import com.yourco.qrcheckin.attendance.CheckinMetrics.Stage;
+import com.yourco.qrcheckin.attendance.model.AttendanceCursor;
+import com.yourco.qrcheckin.attendance.model.AttendanceExportFilter;
+import com.yourco.qrcheckin.attendance.model.AttendanceFeed;
 import com.yourco.qrcheckin.attendance.model.AttendanceRecord;
 import com.yourco.qrcheckin.attendance.model.CheckinRequest;
 import com.yourco.qrcheckin.attendance.model.CheckinResult;
+import com.yourco.qrcheckin.attendance.model.NewAttendance;
 import com.yourco.qrcheckin.common.util.HashingService;
 import com.yourco.qrcheckin.common.util.PhoneNormalizer;
-import com.yourco.qrcheckin.participant.ParticipantRepository;
-import com.yourco.qrcheckin.session.SessionRepository;
-import com.yourco.qrcheckin.settings.SettingsRepository;
-import org.springframework.dao.DuplicateKeyException;
+import com.yourco.qrcheckin.common.util.TransactionHooks;
+import com.yourco.qrcheckin.infra.excel.AttendanceExportFormat;
+import com.yourco.qrcheckin.infra.excel.AttendanceExportWriter;
+import com.yourco.qrcheckin.participant.ParticipantRoster;
+import com.yourco.qrcheckin.session.SessionRegistry;
+import com.yourco.qrcheckin.settings.SettingsStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class AttendanceService {
 
-    private final ParticipantRepository participantRepo;
+    private static final String DUPLICATE_MESSAGE = "이미 출석 처리되었습니다.";
+    private static final int MAX_FEED_LIMIT = 1000;
+    private static final String BUSY_MESSAGE = "요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
+
+    private final ParticipantRoster roster;
     private final AttendanceRepository attendanceRepo;
-    private final SessionRepository sessionRepo;
-    private final SettingsRepository settingsRepo;
+    private final AttendanceWriteBatcher writeBatcher;
+    private final AttendanceBitmaps bitmaps;
+    private final SessionRegistry sessionRegistry;
+    private final SettingsStore settings;
     private final HashingService hashing;
+    private final CheckinMetrics metrics;
+    private final AttendanceEventPublisher events;
+    private final AttendancePurger purger;
+
+    @Value("${app.attendance.batch.submit-timeout-ms:10000}")
+    private long submitTimeoutMs;
+
+    // 내보내기 때 한 번에 읽는 행 수 (읽기 트랜잭션 하나의 크기)
+    @Value("${app.attendance.export-page-size:1000}")
+    private int exportPageSize;
 
-    public AttendanceService(ParticipantRepository participantRepo,
+    public AttendanceService(ParticipantRoster roster,
                              AttendanceRepository attendanceRepo,
-                             SessionRepository sessionRepo,
-                             SettingsRepository settingsRepo,
-                             HashingService hashing) {
-        this.participantRepo = participantRepo;
+                             AttendanceWriteBatcher writeBatcher,
+                             AttendanceBitmaps bitmaps,
+                             SessionRegistry sessionRegistry,
+                             SettingsStore settings,
+                             HashingService hashing,
+                             CheckinMetrics metrics,
+                             AttendanceEventPublisher events,
+                             AttendancePurger purger) {
+        this.roster = roster;
         this.attendanceRepo = attendanceRepo;
-        this.sessionRepo = sessionRepo;
-        this.settingsRepo = settingsRepo;
+        this.writeBatcher = writeBatcher;
+        this.bitmaps = bitmaps;
+        this.sessionRegistry = sessionRegistry;
+        this.settings = settings;
         this.hashing = hashing;
+        this.metrics = metrics;
+        this.events = events;
+        this.purger = purger;
     }
 
-    @Transactional
+    // 트랜잭션 없이 실행: insert는 AttendanceWriteBatcher가 모아서 커밋
     public CheckinResult checkin(CheckinRequest req) {
+        long started = System.nanoTime();
+        try {
+            return doCheckin(req, started);
+        } catch (RuntimeException e) {
+            metrics.failed(started);
+            throw e;
+        }
+    }
+
+    private CheckinResult doCheckin(CheckinRequest req, long started) {
         // 0) 세션/토큰 검증 (token은 shortCode)
-        var sessionOpt = sessionRepo.findByShortCode(req.token().toUpperCase());
+        var sessionOpt = sessionRegistry.findByShortCode(req.token());
+        long t = metrics.lap(Stage.SESSION_LOOKUP, started);
         if (sessionOpt.isEmpty()) {
-            return new CheckinResult(false, "유효하지 않은 출석 코드입니다.");
+            return metrics.finish(Outcome.UNKNOWN_CODE, started, new CheckinResult(false, "유효하지 않은 출석 코드입니다."));
         }
         
         var session = sessionOpt.get();
         if (!"ACTIVE".equals(session.status())) {
-            return new CheckinResult(false, "출석이 마감되었습니다.");
+            return metrics.finish(Outcome.CLOSED_SESSION, started, new CheckinResult(false, "출석이 마감되었습니다."));
         }
         
         // sessionId 검증 (shortCode로 찾은 세션과 요청의 sessionId가 일치해야 함)
         if (!session.id().equals(req.sessionId())) {
-            return new CheckinResult(false, "세션 정보가 일치하지 않습니다.");
+            return metrics.finish(Outcome.SESSION_MISMATCH, started, new CheckinResult(false, "세션 정보가 일치하지 않습니다."));
         }
 
         long participantId = req.participantId();
 
-        // 1) 참가자 존재 확인x1
-        var participantOpt = participantRepo.findById(participantId);
+        // 1) 참가자 존재 확인
+        var participantOpt = roster.findById(participantId);
+        t = metrics.lap(Stage.PARTICIPANT_LOOKUP, t);
         if (participantOpt.isEmpty()) {
-            return new CheckinResult(false, "선택한 참가자를 찾을 수 없습니다.");
+            return metrics.finish(Outcome.UNKNOWN_PARTICIPANT, started, new CheckinResult(false, "선택한 참가자를 찾을 수 없습니다."));
         }
 
         var participant = participantOpt.get();
 
         // 2) 간편 체크인 모드 확인
-        boolean simpleMode = settingsRepo.get("simple_checkin_mode")
-                .map("true"::equals)
-                .orElse(false);
+        boolean simpleMode = settings.current().simpleCheckinMode();
+        t = metrics.lap(Stage.SETTINGS_LOOKUP, t);
 
         String phoneNorm;
         if (simpleMode) {
@@ -78,33 +133,90 @@ public class AttendanceService {
             // 일반 모드: 전화번호 검증 필수
             phoneNorm = PhoneNormalizer.normalize(req.phone() != null ? req.phone() : "");
             if (phoneNorm.isBlank()) {
-                return new CheckinResult(false, "전화번호를 확인하세요.");
+                return metrics.finish(Outcome.MISSING_PHONE, started, new CheckinResult(false, "전화번호를 확인하세요."));
             }
 
             String phoneHash = hashing.sha256(phoneNorm);
+            t = metrics.lap(Stage.PHONE_HASH, t);
             if (!phoneHash.equals(participant.phoneHash())) {
-                return new CheckinResult(false, "전화번호가 일치하지 않습니다.");
+                return metrics.finish(Outcome.WRONG_PHONE, started, new CheckinResult(false, "전화번호가 일치하지 않습니다."));
             }
         }
 
-        // 3) 출석 기록 insert (UNIQUE(session_id, participant_id)로 중복 방지)
-        String checkedAt = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        // 3) 이미 출석했는지 메모리 비트맵으로 먼저 확인
+        boolean alreadyCheckedIn = bitmaps.isCheckedIn(session.id(), participantId);
+        t = metrics.lap(Stage.DUPLICATE_CHECK, t);
+        if (alreadyCheckedIn) {
+            return metrics.finish(Outcome.DUPLICATE, started, new CheckinResult(false, DUPLICATE_MESSAGE));
+        }
+
+        // 4) 출석 기록 insert (동시 요청은 UNIQUE 충돌 시 DO NOTHING + 반영 행 수로 중복 판정)
+        NewAttendance row = new NewAttendance(
+            session.id(),
+            session.title(),
+            participantId,
+            participant.name(),
+            phoneNorm,
+            participant.phoneLast4(),
+            participant.district(),
+            null,  // 출석 시각은 배치 커밋 때 기록
+            null,
+            null
+        );
+
+        Future<Boolean> pending = writeBatcher.submit(row);
+        boolean inserted;
         try {
-            attendanceRepo.insert(
-                session.id(),
-                session.title(),
-                participantId, 
-                participant.name(),
-                phoneNorm,
-                participant.phoneLast4(),
-                checkedAt, 
-                null, 
-                null
-            );
-            return new CheckinResult(true, "출석 완료");
-        } catch (DuplicateKeyException e) {
-            return new CheckinResult(false, "이미 출석 처리되었습니다.");
+            try {
+                inserted = pending.get(submitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 아직 대기열에 있으면 빼고 BUSY (기록되지 않음이 확실할 때만).
+                // 이미 writer 가 가져갔으면 곧 커밋되므로 그 결과를 기다린다.
+                if (pending.cancel(false)) {
+                    return metrics.finish(Outcome.BUSY, started, new CheckinResult(false, BUSY_MESSAGE));
+                }
+                inserted = pending.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.cancel(false)) {
+                return metrics.finish(Outcome.BUSY, started, new CheckinResult(false, BUSY_MESSAGE));
+            }
+            throw new IllegalStateException("출석 저장 결과를 기다리다 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                return metrics.finish(Outcome.BUSY, started, new CheckinResult(false, BUSY_MESSAGE));
+            }
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("출석 저장 실패", e.getCause());
+        }
+        metrics.lap(Stage.INSERT, t);
+
+        // 중복이어도 DB에는 있으므로 비트맵에 반영
+        bitmaps.markCheckedIn(session.id(), participantId);
+
+        if (!inserted) {
+            return metrics.finish(Outcome.DUPLICATE, started, new CheckinResult(false, DUPLICATE_MESSAGE));
         }
+        // 커밋이 끝난 뒤라 바로 알려도 된다 (실제 발송은 모아서)
+        events.checkedIn(session.id(), participant.name());
+        return metrics.finish(Outcome.SUCCESS, started, new CheckinResult(true, "출석 완료"));
+    }
+
+    public Map<String, Object> getWriteBatchStats() {
+        return writeBatcher.stats();
+    }
+
+    public SseEmitter subscribe(String sessionId) {
+        return events.subscribe(sessionId);
+    }
+
+    public Map<String, Object> getEventStats() {
+        return events.stats();
+    }
+
+    public Map<String, Object> getBitmapStats() {
+        return bitmaps.stats();
     }
 
     public List<AttendanceRecord> getAllAttendances() {
@@ -115,17 +227,82 @@ public class AttendanceService {
         return attendanceRepo.findBySessionId(sessionId);
     }
 
+    public AttendanceFeed getAttendanceFeed(String sessionId, String before, String since, int limit) {
+        String session = sessionId == null || sessionId.isBlank() ? null : sessionId;
+        int size = Math.min(Math.max(limit, 1), MAX_FEED_LIMIT);
+
+        if (since != null && !since.isBlank()) {
+            // 마지막으로 받은 뒤 추가된 기록만
+            AttendanceCursor after = AttendanceCursor.decode(since);
+            List<AttendanceRecord> rows = attendanceRepo.findSince(session, after, size + 1);
+            boolean hasMore = rows.size() > size;
+            List<AttendanceRecord> items = hasMore ? rows.subList(0, size) : rows;
+            String latest = items.isEmpty() ? since : AttendanceCursor.of(items.get(items.size() - 1)).encode();
+            return new AttendanceFeed(items, null, latest, hasMore);
+        }
+
+        AttendanceCursor cursor = before == null || before.isBlank() ? null : AttendanceCursor.decode(before);
+        List<AttendanceRecord> rows = attendanceRepo.findPage(session, cursor, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<AttendanceRecord> items = hasMore ? rows.subList(0, size) : rows;
+        String next = hasMore ? AttendanceCursor.of(items.get(items.size() - 1)).encode() : null;
+        String latest = items.isEmpty() ? null : AttendanceCursor.of(items.get(0)).encode();
+        return new AttendanceFeed(items, next, latest, hasMore);
+    }
+
+    /** 조건 확인 (응답을 보내기 시작하기 전에 잘못된 값을 걸러냄) */
+    public AttendanceExportFilter normalizeExportFilter(AttendanceExportFilter filter) {
+        String start = blankToNull(filter.startDate());
+        String end = blankToNull(filter.endDate());
+        try {
+            if (start != null) LocalDate.parse(start);
+            if (end != null) LocalDate.parse(end);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식은 yyyy-MM-dd 입니다.");
+        }
+        return new AttendanceExportFilter(blankToNull(filter.sessionId()), start, end, blankToNull(filter.district()));
+    }
+
+    /**
+     * 출석 기록을 xlsx/csv 로 바로 써 내려간다. 기록 수와 상관없이 메모리 사용량이 일정하다.
+     * export-page-size 건씩 keyset 으로 읽고 (페이지마다 읽기 트랜잭션을 닫음) 그 사이에 응답에 쓴다.
+     * 클라이언트가 느려도 DB 커넥션은 페이지를 읽는 동안만 쓴다.
+     */
+    public void exportAttendances(AttendanceExportFilter filter, AttendanceExportFormat format, OutputStream out) throws IOException {
+        String endExclusive = filter.endDate() == null ? null : LocalDate.parse(filter.endDate()).plusDays(1).toString();
+        try (AttendanceExportWriter writer = format.open(out)) {
+            AttendanceCursor cursor = null;
+            while (true) {
+                List<AttendanceRecord> page = attendanceRepo.findExportPage(
+                        filter.sessionId(), filter.startDate(), endExclusive, filter.district(), cursor, exportPageSize);
+                for (AttendanceRecord r : page) writer.row(r);
+                if (page.size() < exportPageSize) break;
+                cursor = AttendanceCursor.of(page.get(page.size() - 1));
+            }
+            writer.finish();
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     public int getAttendanceCount(String sessionId) {
-        return attendanceRepo.countBySessionId(sessionId);
+        return bitmaps.count(sessionId);
     }
 
-    @Transactional
+    // 청크 단위 삭제 (트랜잭션도 청크마다, 비트맵/실시간 현황은 AttendancePurger 가 갱신)
     public int deleteByDateRange(String startDate, String endDate) {
-        return attendanceRepo.deleteByDateRange(startDate, endDate);
+        return (int) purger.runNow("range", startDate, endDate, false).deleted();
     }
 
     @Transactional
     public int deleteBySessionId(String sessionId) {
-        return attendanceRepo.deleteBySessionId(sessionId);
+        int deleted = attendanceRepo.deleteBySessionId(sessionId);
+        TransactionHooks.afterCommit(() -> {
+            bitmaps.evict(sessionId);
+            events.refresh(sessionId);
+        });
+        return deleted;
     }
 }
\ No newline at end of file
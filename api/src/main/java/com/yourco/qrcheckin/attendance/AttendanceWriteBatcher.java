@@ -0,0 +1,258 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.NewAttendance;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 출석 insert group commit.
+ * SQLite는 writer가 하나뿐이고 커밋마다 fsync가 일어나므로,
+ * 동시에 들어온 체크인을 짧은 시간(window) 또는 최대 건수만큼 모아 한 트랜잭션으로 쓴다.
+ * 각 요청의 결과는 커밋이 끝난 뒤에 완료된다.
+ * 대기열에 있는 동안은 cancel() 로 뺄 수 있고, writer 가 가져간 뒤에는 취소되지 않는다 (곧 커밋되므로 결과를 기다린다).
+ */
+@Component
+public class AttendanceWriteBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceWriteBatcher.class);
+    private static final DateTimeFormatter CHECKED_IN_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final AttendanceRepository attendanceRepo;
+    private final TransactionTemplate tx;
+
+    @Value("${app.attendance.batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${app.attendance.batch.max-size:64}")
+    private int maxBatchSize;
+
+    @Value("${app.attendance.batch.queue-capacity:4096}")
+    private int queueCapacity;
+
+    private BlockingQueue<Pending> queue;
+    private Thread writer;
+    private volatile boolean running;
+    private String lastTimestamp;  // writer 스레드 전용
+
+    // 통계
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder commitNanosTotal = new LongAdder();
+    private final AtomicLong maxBatch = new AtomicLong();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastCommitNanos;
+    private volatile long lastCommitAt;  // System.nanoTime(), 0 = 아직 없음
+    private volatile double commitNanosEwma;
+
+    public AttendanceWriteBatcher(AttendanceRepository attendanceRepo, PlatformTransactionManager txManager) {
+        this.attendanceRepo = attendanceRepo;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    /** 대기 중인 한 건. writer 가 가져가거나(claim) 취소되거나 둘 중 하나만 성공한다. */
+    private static final class Pending extends CompletableFuture<Boolean> {
+        final NewAttendance row;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Pending(NewAttendance row) {
+            this.row = row;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return claimed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::runLoop, "attendance-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        // writer 가 끝난 뒤에 들어왔거나 다 쓰지 못한 요청은 기다리지 않게 거절
+        List<Pending> left = new ArrayList<>();
+        queue.drainTo(left);
+        for (Pending p : left) rejectStopped(p);
+    }
+
+    /**
+     * 출석 한 건을 다음 배치에 넣는다.
+     * @return 커밋 후 true(새로 기록됨) / false(이미 출석) 로 완료되는 future.
+     *         대기열이 가득 찼거나 종료 중이면 RejectedExecutionException 으로 완료된다.
+     */
+    public CompletableFuture<Boolean> submit(NewAttendance row) {
+        Pending pending = new Pending(row);
+        if (!running) {
+            rejectStopped(pending);
+        } else if (!queue.offer(pending)) {
+            pending.completeExceptionally(new RejectedExecutionException("출석 쓰기 대기열이 가득 찼습니다"));
+        } else if (!running && queue.remove(pending)) {
+            // offer 하는 사이 종료되어 writer 가 더 이상 꺼내지 않는 경우
+            rejectStopped(pending);
+        }
+        return pending;
+    }
+
+    private static void rejectStopped(Pending pending) {
+        if (pending.claim()) {
+            pending.completeExceptionally(new RejectedExecutionException("출석 쓰기가 종료되었습니다"));
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /** 최근 커밋 지연 (지수이동평균, ms) */
+    public double recentCommitMillis() {
+        return commitNanosEwma / 1e6;
+    }
+
+    /** 마지막 커밋 후 지난 시간 (ms, 커밋이 없었으면 Long.MAX_VALUE) */
+    public long millisSinceLastCommit() {
+        long at = lastCommitAt;
+        return at == 0 ? Long.MAX_VALUE : (System.nanoTime() - at) / 1_000_000;
+    }
+
+    public Map<String, Object> stats() {
+        long b = batches.sum();
+        long r = rows.sum();
+        return Map.ofEntries(
+            Map.entry("windowMs", windowMs),
+            Map.entry("maxBatchSize", maxBatchSize),
+            Map.entry("queueDepth", queue.size()),
+            Map.entry("batches", b),
+            Map.entry("rows", r),
+            Map.entry("duplicates", duplicates.sum()),
+            Map.entry("failedBatches", failures.sum()),
+            Map.entry("avgBatchSize", b == 0 ? 0.0 : (double) r / b),
+            Map.entry("maxObservedBatchSize", maxBatch.get()),
+            Map.entry("lastBatchSize", lastBatchSize),
+            Map.entry("avgCommitMillis", b == 0 ? 0.0 : commitNanosTotal.sum() / 1e6 / b),
+            Map.entry("maxCommitMillis", maxCommitNanos.get() / 1e6),
+            Map.entry("lastCommitMillis", lastCommitNanos / 1e6),
+            Map.entry("recentCommitMillis", recentCommitMillis())
+        );
+    }
+
+    private void runLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                // 취소된 요청(제한 시간 안에 못 꺼낸 것)은 쓰지 않는다
+                if (first.claim()) batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) break;
+                    if (next.claim()) batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중: 남은 요청은 마저 기록
+                List<Pending> rest = new ArrayList<>();
+                queue.drainTo(rest, maxBatchSize - batch.size());
+                for (Pending p : rest) {
+                    if (p.claim()) batch.add(p);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        // writer 스레드 하나가 커밋 순서대로 시각을 찍으므로 (checked_in_at, id) 순서 = insert 순서
+        String checkedInAt = nextTimestamp();
+        List<NewAttendance> toInsert = new ArrayList<>(batch.size());
+        for (Pending p : batch) toInsert.add(p.row.withCheckedInAt(checkedInAt));
+
+        long started = System.nanoTime();
+        int[] counts;
+        try {
+            counts = tx.execute(status -> attendanceRepo.insertBatch(toInsert));
+        } catch (RuntimeException e) {
+            failures.increment();
+            if (batch.size() > 1) {
+                // 한 건 때문에 배치 전체가 롤백됐을 수 있으므로 한 건씩 다시 (실패한 건만 실패로)
+                log.warn("출석 배치 저장 실패 ({}건), 한 건씩 다시 시도", batch.size(), e);
+                for (Pending p : batch) flush(List.of(p));
+                return;
+            }
+            log.error("출석 저장 실패", e);
+            batch.get(0).completeExceptionally(e);
+            return;
+        }
+        recordCommit(batch.size(), System.nanoTime() - started);
+
+        for (int i = 0; i < batch.size(); i++) {
+            // 0이면 UNIQUE(session_id, participant_id)에 걸린 중복 (ON CONFLICT DO NOTHING)
+            boolean inserted = counts[i] != 0;
+            if (!inserted) duplicates.increment();
+            batch.get(i).complete(inserted);
+        }
+    }
+
+    // 시계가 뒤로 가더라도 이전 값보다 작아지지 않게
+    private String nextTimestamp() {
+        String now = LocalDateTime.now().format(CHECKED_IN_AT_FORMAT);
+        if (lastTimestamp != null && now.compareTo(lastTimestamp) < 0) return lastTimestamp;
+        lastTimestamp = now;
+        return now;
+    }
+
+    private void recordCommit(int size, long nanos) {
+        batches.increment();
+        rows.add(size);
+        commitNanosTotal.add(nanos);
+        maxBatch.accumulateAndGet(size, Math::max);
+        maxCommitNanos.accumulateAndGet(nanos, Math::max);
+        lastBatchSize = size;
+        lastCommitNanos = nanos;
+        lastCommitAt = System.nanoTime();
+        // writer 스레드 하나만 갱신하므로 volatile 로 충분
+        commitNanosEwma = commitNanosEwma == 0 ? nanos : commitNanosEwma * 0.8 + nanos * 0.2;
+    }
+}
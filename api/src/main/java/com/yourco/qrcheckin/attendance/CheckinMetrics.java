@@ -0,0 +1,58 @@
+package com.yourco.qrcheckin.attendance;
+
+import com.yourco.qrcheckin.attendance.model.CheckinResult;
+import com.yourco.qrcheckin.metrics.LatencyHistogram;
+import com.yourco.qrcheckin.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 체크인 단계별 소요 시간과 결과별 건수.
+ * 단계 시간은 lap() 으로 이전 시점부터 잰다.
+ */
+@Component
+public class CheckinMetrics {
+
+    public enum Stage { SESSION_LOOKUP, PARTICIPANT_LOOKUP, SETTINGS_LOOKUP, PHONE_HASH, DUPLICATE_CHECK, INSERT }
+
+    public enum Outcome {
+        SUCCESS, DUPLICATE, WRONG_PHONE, MISSING_PHONE, CLOSED_SESSION, UNKNOWN_CODE,
+        SESSION_MISMATCH, UNKNOWN_PARTICIPANT, BUSY, ERROR
+    }
+
+    private final LatencyHistogram[] stages = new LatencyHistogram[Stage.values().length];
+    private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+    private final LatencyHistogram total;
+
+    public CheckinMetrics(MetricsRegistry registry) {
+        for (Stage s : Stage.values()) {
+            stages[s.ordinal()] = registry.histogram("checkin_stage_seconds",
+                    "Time spent in each check-in stage", "stage", s.name().toLowerCase(Locale.ROOT));
+        }
+        for (Outcome o : Outcome.values()) {
+            outcomes[o.ordinal()] = registry.counter("checkin_total",
+                    "Check-in requests by result", "result", o.name().toLowerCase(Locale.ROOT));
+        }
+        total = registry.histogram("checkin_seconds", "Total check-in service time", null, null);
+    }
+
+    /** since 부터 지금까지를 stage 시간으로 기록하고 지금 시각을 돌려준다 */
+    public long lap(Stage stage, long since) {
+        long now = System.nanoTime();
+        stages[stage.ordinal()].record(now - since);
+        return now;
+    }
+
+    public CheckinResult finish(Outcome outcome, long started, CheckinResult result) {
+        outcomes[outcome.ordinal()].increment();
+        total.record(System.nanoTime() - started);
+        return result;
+    }
+
+    public void failed(long started) {
+        outcomes[Outcome.ERROR.ordinal()].increment();
+        total.record(System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,9 @@
+package com.yourco.qrcheckin.attendance.model;
+
+// 보관 파일 한 달치 (month = yyyy-MM)
+public record AttendanceArchiveMonth(
+    String month,
+    int segments,
+    long rows,
+    long bytes
+) {}
@@ -0,0 +1,14 @@
+package com.yourco.qrcheckin.attendance.model;
+
+import java.util.List;
+import java.util.Map;
+
+// 보관 파일 집계 (from/to 는 yyyy-MM, 포함)
+public record AttendanceArchiveReport(
+    String from,
+    String to,
+    long rows,
+    List<AttendanceArchiveSession> sessions,
+    Map<String, Long> byDistrict,
+    Map<String, Long> byMonth
+) {}
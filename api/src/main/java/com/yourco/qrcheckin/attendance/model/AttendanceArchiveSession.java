@@ -0,0 +1,8 @@
+package com.yourco.qrcheckin.attendance.model;
+
+public record AttendanceArchiveSession(
+    String sessionId,
+    String sessionTitle,
+    String firstCheckedInAt,
+    long attended
+) {}
@@ -0,0 +1,30 @@
+package com.yourco.qrcheckin.attendance.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 출석 목록 keyset 페이지 위치 (checked_in_at, id).
+ * 클라이언트에는 불투명한 문자열로 준다.
+ */
+public record AttendanceCursor(String checkedInAt, long id) {
+
+    public static AttendanceCursor of(AttendanceRecord record) {
+        return new AttendanceCursor(record.checkedInAt(), record.id());
+    }
+
+    public String encode() {
+        String raw = checkedInAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AttendanceCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int bar = raw.lastIndexOf('|');
+            return new AttendanceCursor(raw.substring(0, bar), Long.parseLong(raw.substring(bar + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다: " + value);
+        }
+    }
+}
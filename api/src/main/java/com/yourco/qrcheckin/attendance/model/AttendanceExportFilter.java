@@ -0,0 +1,9 @@
+package com.yourco.qrcheckin.attendance.model;
+
+// 출석 내보내기 조건 (null 이면 조건 없음). 날짜는 yyyy-MM-dd, endDate 포함
+public record AttendanceExportFilter(
+        String sessionId,
+        String startDate,
+        String endDate,
+        String district
+) {}
@@ -0,0 +1,16 @@
+package com.yourco.qrcheckin.attendance.model;
+
+import java.util.List;
+
+/**
+ * 출석 목록 한 페이지.
+ * - 페이지 조회: items 는 최신순, 더 오래된 기록은 before=nextCursor
+ * - since 조회: items 는 오래된 순(추가된 순서), 이어서 받으려면 since=latestCursor
+ * latestCursor 는 지금까지 받은 것 중 가장 최근 위치 (다음 since 에 사용)
+ */
+public record AttendanceFeed(
+        List<AttendanceRecord> items,
+        String nextCursor,
+        String latestCursor,
+        boolean hasMore
+) {}
@@ -0,0 +1,10 @@
+package com.yourco.qrcheckin.attendance.model;
+
+import java.util.List;
+
+// 실시간 출석 현황 (SSE). names 는 지난 이벤트 이후 새로 출석한 사람
+public record AttendanceLiveEvent(
+        String sessionId,
+        int count,
+        List<String> names
+) {}
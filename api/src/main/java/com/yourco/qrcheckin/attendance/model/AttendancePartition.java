@@ -0,0 +1,36 @@
+package com.yourco.qrcheckin.attendance.model;
+
+/**
+ * 출석 기록 테이블 하나와 그 테이블이 담는 checked_in_at 범위 [from, to).
+ * from/to 는 "yyyy-MM" 또는 "yyyy" 처럼 checked_in_at 의 앞부분이다.
+ * 범위 비교는 그 달/해의 첫날("yyyy-MM-01", "yyyy-01-01")로 맞춘 뒤 문자열로 한다
+ * ("2025-01-01" 은 "2025-01" 보다 크므로 앞부분 그대로 비교하면 1일부터 시작하는 범위가 어긋난다).
+ * 기존 attendances 테이블은 범위가 없다 (null = 제한 없음).
+ */
+public record AttendancePartition(
+    String table,
+    String from,
+    String to
+) {
+    public boolean isLegacy() {
+        return from == null;
+    }
+
+    /** [start, endExclusive) 와 겹치는지 (null = 제한 없음) */
+    public boolean overlaps(String start, String endExclusive) {
+        if (isLegacy()) return true;
+        return (start == null || start.compareTo(firstDay(to)) < 0)
+                && (endExclusive == null || endExclusive.compareTo(firstDay(from)) > 0);
+    }
+
+    /** 범위 전체가 [start, endExclusive) 안에 들어가는지 (통째로 지워도 되는지) */
+    public boolean within(String start, String endExclusive) {
+        if (isLegacy()) return false;
+        return (start == null || start.compareTo(firstDay(from)) <= 0)
+                && (endExclusive != null && firstDay(to).compareTo(endExclusive) <= 0);
+    }
+
+    private static String firstDay(String bound) {
+        return bound.length() == 4 ? bound + "-01-01" : bound + "-01";
+    }
+}
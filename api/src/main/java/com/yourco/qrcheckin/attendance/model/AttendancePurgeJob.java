@@ -0,0 +1,31 @@
+package com.yourco.qrcheckin.attendance.model;
+
+// checked_in_at 이 [rangeStart, rangeEnd) 인 출석 기록 삭제 작업. status: RUNNING / DONE / FAILED
+// archiveStatus: null(보관하지 않음) / PENDING(지우기 전에 보관 파일부터 써야 함) / DONE
+public record AttendancePurgeJob(
+    long id,
+    String reason,
+    String rangeStart,
+    String rangeEnd,
+    String status,
+    long total,
+    long deleted,
+    String archiveStatus,
+    long archived,
+    String error,
+    String createdAt,
+    String updatedAt
+) {
+    public static final String RUNNING = "RUNNING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+    public static final String PENDING = "PENDING";
+
+    public boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+
+    public boolean needsArchive() {
+        return PENDING.equals(archiveStatus);
+    }
+}
@@ -0,0 +1,20 @@
+package com.yourco.qrcheckin.attendance.model;
+
+// checkedInAt 은 AttendanceWriteBatcher 가 커밋 직전에 채운다 (insert 순서와 같은 순서가 되도록)
+// district 는 출석 당시 참가자의 구역 (구역별 집계용)
+public record NewAttendance(
+    String sessionId,
+    String sessionTitle,
+    long participantId,
+    String name,
+    String phone,
+    String phoneLast4,
+    String district,
+    String checkedInAt,
+    String ip,
+    String userAgent
+) {
+    public NewAttendance withCheckedInAt(String checkedInAt) {
+        return new NewAttendance(sessionId, sessionTitle, participantId, name, phone, phoneLast4, district, checkedInAt, ip, userAgent);
+    }
+}
@@ -0,0 +1,156 @@
+package com.yourco.qrcheckin.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상 int 값 집합을 압축해서 담는 비트맵 (Roaring 방식을 단순화).
+ * 상위 16비트로 컨테이너를 나누고, 컨테이너마다
+ * - 원소가 적으면 정렬된 char[] (원소당 2바이트)
+ * - 4096개를 넘으면 long[1024] 비트맵 (8KB 고정)
+ * 으로 저장한다. 동기화하지 않으므로 호출하는 쪽에서 락을 잡아야 한다.
+ */
+public final class CompactBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private char[] keys = new char[4];
+    private Object[] containers = new Object[4];  // char[] (배열 컨테이너) 또는 long[] (비트맵 컨테이너)
+    private int[] arraySizes = new int[4];         // 배열 컨테이너의 원소 수, 비트맵이면 카디널리티
+    private int containerCount;
+    private int cardinality;
+
+    public boolean add(int value) {
+        checkValue(value);
+        char high = (char) (value >>> 16);
+        char low = (char) value;
+
+        int idx = findContainer(high);
+        if (idx < 0) {
+            idx = -idx - 1;
+            insertContainer(idx, high);
+        }
+
+        boolean added = containers[idx] instanceof long[] bits
+                ? bitmapAdd(bits, low)
+                : arrayAdd(idx, low);
+        if (added) {
+            arraySizes[idx]++;
+            cardinality++;
+        }
+        return added;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) return false;
+        int idx = findContainer((char) (value >>> 16));
+        if (idx < 0) return false;
+        char low = (char) value;
+        if (containers[idx] instanceof long[] bits) {
+            return (bits[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) containers[idx], 0, arraySizes[idx], low) >= 0;
+    }
+
+    public boolean remove(int value) {
+        if (value < 0) return false;
+        int idx = findContainer((char) (value >>> 16));
+        if (idx < 0) return false;
+        char low = (char) value;
+
+        boolean removed;
+        if (containers[idx] instanceof long[] bits) {
+            long mask = 1L << low;
+            removed = (bits[low >>> 6] & mask) != 0;
+            bits[low >>> 6] &= ~mask;
+        } else {
+            char[] arr = (char[]) containers[idx];
+            int pos = Arrays.binarySearch(arr, 0, arraySizes[idx], low);
+            removed = pos >= 0;
+            if (removed) System.arraycopy(arr, pos + 1, arr, pos, arraySizes[idx] - pos - 1);
+        }
+        if (!removed) return false;
+
+        cardinality--;
+        if (--arraySizes[idx] == 0) removeContainer(idx);
+        return true;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /** 대략적인 메모리 사용량 (바이트) */
+    public long sizeInBytes() {
+        long bytes = 16L + 2L * keys.length + 16L + 4L * containers.length + 16L + 4L * arraySizes.length;
+        for (int i = 0; i < containerCount; i++) {
+            bytes += containers[i] instanceof long[] bits ? 16L + 8L * bits.length
+                    : 16L + 2L * ((char[]) containers[i]).length;
+        }
+        return bytes;
+    }
+
+    private boolean arrayAdd(int idx, char low) {
+        char[] arr = (char[]) containers[idx];
+        int size = arraySizes[idx];
+        int pos = Arrays.binarySearch(arr, 0, size, low);
+        if (pos >= 0) return false;
+        pos = -pos - 1;
+
+        if (size == ARRAY_MAX) {
+            // 배열이 커지면 비트맵 컨테이너로 전환
+            long[] bits = new long[1024];
+            for (int i = 0; i < size; i++) bits[arr[i] >>> 6] |= 1L << arr[i];
+            containers[idx] = bits;
+            return bitmapAdd(bits, low);
+        }
+        if (size == arr.length) {
+            arr = Arrays.copyOf(arr, Math.min(ARRAY_MAX, Math.max(4, size * 2)));
+            containers[idx] = arr;
+        }
+        System.arraycopy(arr, pos, arr, pos + 1, size - pos);
+        arr[pos] = low;
+        return true;
+    }
+
+    private static boolean bitmapAdd(long[] bits, char low) {
+        long mask = 1L << low;
+        long word = bits[low >>> 6];
+        if ((word & mask) != 0) return false;
+        bits[low >>> 6] = word | mask;
+        return true;
+    }
+
+    private int findContainer(char high) {
+        return Arrays.binarySearch(keys, 0, containerCount, high);
+    }
+
+    private void insertContainer(int idx, char high) {
+        if (containerCount == keys.length) {
+            int cap = containerCount * 2;
+            keys = Arrays.copyOf(keys, cap);
+            containers = Arrays.copyOf(containers, cap);
+            arraySizes = Arrays.copyOf(arraySizes, cap);
+        }
+        int tail = containerCount - idx;
+        System.arraycopy(keys, idx, keys, idx + 1, tail);
+        System.arraycopy(containers, idx, containers, idx + 1, tail);
+        System.arraycopy(arraySizes, idx, arraySizes, idx + 1, tail);
+        keys[idx] = high;
+        containers[idx] = new char[4];
+        arraySizes[idx] = 0;
+        containerCount++;
+    }
+
+    private void removeContainer(int idx) {
+        int tail = containerCount - idx - 1;
+        System.arraycopy(keys, idx + 1, keys, idx, tail);
+        System.arraycopy(containers, idx + 1, containers, idx, tail);
+        System.arraycopy(arraySizes, idx + 1, arraySizes, idx, tail);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) throw new IllegalArgumentException("negative value: " + value);
+    }
+}
@@ -0,0 +1,51 @@
+package com.yourco.qrcheckin.common.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * 버전 카운터 기반 ETag / 조건부 GET.
+ * ETag = "리소스-부팅ID-버전". 카운터는 재시작하면 처음부터 다시 세므로 부팅 ID를 섞어 이전 태그와 겹치지 않게 한다.
+ * If-None-Match 가 맞으면 body 를 만들지 않고 304를 돌려준다 (DB 조회/직렬화 없음).
+ * 버전은 body 를 만들기 전에 읽어야 한다. 그래야 쓰기와 겹쳐도 태그가 내용보다 새것이 되지 않는다.
+ */
+public final class ETags {
+
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    // 브라우저가 캐시해 두되 매번 If-None-Match 로 확인하게
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private ETags() {}
+
+    public static String of(String resource, long version) {
+        return "\"" + resource + "-" + BOOT_ID + "-" + version + "\"";
+    }
+
+    public static <T> ResponseEntity<T> respond(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) return notModified(etag);
+        return ok(etag).body(body.get());
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE);
+    }
+
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    // If-None-Match 는 약한 비교 (W/ 접두어 무시), 여러 태그는 쉼표로 구분
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
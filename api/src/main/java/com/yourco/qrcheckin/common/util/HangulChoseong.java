@@ -0,0 +1,62 @@
+package com.yourco.qrcheckin.common.util;
+
+/**
+ * 한글 초성 검색 도우미.
+ * 완성형 음절(가~힣)을 초성 자모(ㄱ~ㅎ, 호환 자모)로 바꾼다. "홍길동" -> "ㅎㄱㄷ"
+ */
+public final class HangulChoseong {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChoseong() {}
+
+    /** 음절은 초성으로, 나머지 글자는 그대로 */
+    public static String of(String s) {
+        char[] out = new char[s.length()];
+        for (int i = 0; i < out.length; i++) out[i] = of(s.charAt(i));
+        return new String(out);
+    }
+
+    public static char of(char c) {
+        if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) return c;
+        return CHOSEONG[(c - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    /** 초성으로 쓰이는 자모(ㄱ~ㅎ 중 19자)인지 */
+    public static boolean isChoseong(char c) {
+        if (c < 'ㄱ' || c > 'ㅎ') return false;
+        for (char ch : CHOSEONG) {
+            if (ch == c) return true;
+        }
+        return false;
+    }
+
+    public static boolean containsChoseong(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isChoseong(s.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * text 가 pattern 으로 시작하는지. pattern 의 초성 자모는 text 같은 자리 음절의 초성과 비교한다.
+     * "홍ㄱ" 은 "홍길동" 과 맞고 "황길동" 과는 맞지 않는다.
+     */
+    public static boolean startsWith(String text, String pattern) {
+        if (text.length() < pattern.length()) return false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char p = pattern.charAt(i);
+            char t = text.charAt(i);
+            if (p == t) continue;
+            if (!isChoseong(p) || of(t) != p) return false;
+        }
+        return true;
+    }
+}
@@ -5,24 +5,68 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
+/**
+ * SHA-256(input + "|" + salt) 의 소문자 hex.
+ * 체크인/엑셀 업로드 행마다 불리므로 "|" + salt 는 미리 인코딩하고, MessageDigest 는 getInstance(provider 조회) 대신
+ * 미리 만든 원본을 clone 해서 쓴다. 스레드에 묶어 두지 않으므로 가상 스레드에서도 똑같이 동작한다.
+ * 결과는 예전 구현(문자열 연결 + String.format)과 바이트 단위로 같아야 한다. DB에 저장된 해시와 비교하기 때문.
+ */
 @Component
 public final class HashingService {
 
-    private final String salt;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // "|" + salt 를 UTF-8 로 미리 인코딩
+    private final byte[] saltSuffix;
+    private final MessageDigest prototype;
+    private final boolean cloneable;
 
     public HashingService(@Value("${app.security.phone-hash-salt}") String salt) {
-        this.salt = salt;
+        this.saltSuffix = ("|" + salt).getBytes(StandardCharsets.UTF_8);
+        this.prototype = newDigest();
+        this.cloneable = isCloneable(prototype);
     }
 
     public String sha256(String input) {
+        MessageDigest md = digest();
+        // 잘못된 surrogate 처리까지 예전과 같도록 표준 인코더 사용 (UTF-8 이므로 input + "|" + salt 를 이어 인코딩한 것과 같다)
+        md.update(input.getBytes(StandardCharsets.UTF_8));
+        md.update(saltSuffix);
+        byte[] digest = md.digest();
+
+        char[] out = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            int v = digest[i] & 0xff;
+            out[i * 2] = HEX[v >>> 4];
+            out[i * 2 + 1] = HEX[v & 0x0f];
+        }
+        return new String(out);
+    }
+
+    private MessageDigest digest() {
+        if (!cloneable) return newDigest();
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newDigest();
+        }
+    }
+
+    private static boolean isCloneable(MessageDigest md) {
+        try {
+            md.clone();
+            return true;
+        } catch (CloneNotSupportedException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest newDigest() {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] digest = md.digest((input + "|" + salt).getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("hash failed", e);
         }
     }
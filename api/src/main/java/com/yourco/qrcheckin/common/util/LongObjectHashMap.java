@@ -0,0 +1,188 @@
+package com.yourco.qrcheckin.common.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * long 키 전용 오픈 어드레싱 해시맵 (Long 박싱 없음).
+ * 키는 long[], 값은 Object[] 배열에 그대로 저장하고 선형 탐사 + backward-shift 삭제를 사용한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 락을 잡아야 한다.
+ */
+public final class LongObjectHashMap<V> {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    // 키 0은 빈 슬롯 표시로 쓰므로 따로 보관
+    private boolean hasZeroKey;
+    private V zeroValue;
+
+    public LongObjectHashMap() {
+        this(16);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public V get(long key) {
+        if (key == EMPTY) return hasZeroKey ? zeroValue : null;
+        long[] k = keys;
+        int m = mask;
+        int i = mix(key) & m;
+        while (true) {
+            long cur = k[i];
+            if (cur == EMPTY) return null;
+            if (cur == key) return value(i);
+            i = (i + 1) & m;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY) return hasZeroKey;
+        return get(key) != null;
+    }
+
+    public V put(long key, V value) {
+        if (value == null) throw new IllegalArgumentException("null value");
+        if (key == EMPTY) {
+            V prev = zeroValue;
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return prev;
+        }
+        int i = mix(key) & mask;
+        while (true) {
+            long cur = keys[i];
+            if (cur == EMPTY) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size >= resizeAt) rehash(keys.length << 1);
+                return null;
+            }
+            if (cur == key) {
+                V prev = value(i);
+                values[i] = value;
+                return prev;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    public V remove(long key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) return null;
+            V prev = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return prev;
+        }
+        int i = mix(key) & mask;
+        while (true) {
+            long cur = keys[i];
+            if (cur == EMPTY) return null;
+            if (cur == key) {
+                V prev = value(i);
+                shiftKeys(i);
+                size--;
+                return prev;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        if (hasZeroKey) action.accept(zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) action.accept(value(i));
+        }
+    }
+
+    /** 키/값 배열 자체의 크기 (바이트, 압축 OOP 기준 추정치) */
+    public long tableBytes() {
+        return 16L + 8L * keys.length + 16L + 4L * values.length;
+    }
+
+    // 삭제된 슬롯 뒤의 클러스터를 앞으로 당겨 탐사 체인을 유지
+    private void shiftKeys(int pos) {
+        int m = mask;
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & m;
+            long cur;
+            while (true) {
+                cur = keys[pos];
+                if (cur == EMPTY) {
+                    keys[last] = EMPTY;
+                    values[last] = null;
+                    return;
+                }
+                int slot = mix(cur) & m;
+                if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) break;
+                pos = (pos + 1) & m;
+            }
+            keys[last] = cur;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key == EMPTY) continue;
+            int i = mix(key) & mask;
+            while (keys[i] != EMPTY) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = oldValues[j];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int i) {
+        return (V) values[i];
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+        return Math.max(16, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -2,9 +2,22 @@ package com.yourco.qrcheckin.common.util;
 
 public final class PhoneNormalizer {
 
+    // 숫자(0-9)만 남긴다. 이미 숫자만 있으면 그대로 돌려준다.
     public static String normalize(String phone) {
         if (phone == null) return "";
-        return phone.replaceAll("[^0-9]", "");
+        int len = phone.length();
+        int i = 0;
+        while (i < len && isDigit(phone.charAt(i))) i++;
+        if (i == len) return phone;
+
+        char[] digits = new char[len];
+        phone.getChars(0, i, digits, 0);
+        int n = i;
+        for (; i < len; i++) {
+            char c = phone.charAt(i);
+            if (isDigit(c)) digits[n++] = c;
+        }
+        return new String(digits, 0, n);
     }
 
     public static String last4(String normalizedPhone) {
@@ -12,4 +25,8 @@ public final class PhoneNormalizer {
         if (normalizedPhone.length() <= 4) return normalizedPhone;
         return normalizedPhone.substring(normalizedPhone.length() - 4);
     }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
@@ -0,0 +1,38 @@
+package com.yourco.qrcheckin.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 인덱스/캐시 갱신을 DB 커밋 이후로 미루기 위한 헬퍼.
+ * 트랜잭션 밖에서 호출되면 바로 실행한다. 롤백되면 실행하지 않는다.
+ * 반대로 먼저 바꿔 둔 메모리 상태를 롤백 때 되돌릴 때는 afterRollback.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {}
+
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /** 롤백(커밋 실패 포함)되면 실행. 트랜잭션 밖이면 아무것도 하지 않는다. */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) action.run();
+            }
+        });
+    }
+}
@@ -21,7 +21,8 @@ public class CorsConfig {
                 registry.addMapping("/api/**")
                         .allowedOrigins(frontendOrigin)
                         .allowedMethods("GET","POST","PUT","DELETE","OPTIONS")
-                        .allowedHeaders("*");
+                        .allowedHeaders("*")
+                        .exposedHeaders("X-Settings-Version", "Retry-After", "ETag");
             }
         };
     }
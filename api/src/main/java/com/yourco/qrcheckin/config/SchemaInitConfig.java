@@ -0,0 +1,72 @@
+package com.yourco.qrcheckin.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * schema.sql 실행 직후 예전 DB 에 없는 컬럼을 추가한다.
+ * SQLite 는 ADD COLUMN IF NOT EXISTS 가 없으므로 pragma table_info 로 확인한 뒤 ALTER 한다.
+ * Boot 기본 초기화 빈을 대신하므로 JdbcTemplate 을 쓰는 빈은 컬럼 추가까지 끝난 뒤 만들어진다.
+ */
+@Configuration
+public class SchemaInitConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaInitConfig.class);
+
+    // backfill: 컬럼을 추가한 직후 한 번만 실행 (없으면 null)
+    record Column(String table, String name, String definition, String backfill) {
+
+        Column(String table, String name, String definition) {
+            this(table, name, definition, null);
+        }
+    }
+
+    // CREATE TABLE 에 컬럼을 새로 넣으면 여기에도 추가한다
+    static final List<Column> ADDED_COLUMNS = List.of(
+            new Column("participants", "phone", "TEXT DEFAULT ''"),
+            // 구역 컬럼 추가 전 출석 기록은 그때 참가자 구역으로 채운다
+            new Column("attendances", "district", "TEXT DEFAULT ''",
+                    "UPDATE attendances SET district = COALESCE(" +
+                    "(SELECT p.district FROM participants p WHERE p.id = attendances.participant_id), '')"),
+            new Column("attendance_purge_jobs", "archive_status", "TEXT"),
+            new Column("attendance_purge_jobs", "archived", "INTEGER DEFAULT 0")
+    );
+
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(
+            DataSource dataSource, SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties) {
+            @Override
+            public boolean initializeDatabase() {
+                boolean initialized = super.initializeDatabase();
+                addMissingColumns(new JdbcTemplate(dataSource),
+                        new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+                return initialized;
+            }
+        };
+    }
+
+    // 컬럼 추가와 backfill 은 한 트랜잭션으로 (중간에 끊기면 다음 시작 때 둘 다 다시)
+    static void addMissingColumns(JdbcTemplate jdbc, TransactionTemplate tx) {
+        for (Column c : ADDED_COLUMNS) {
+            List<String> existing = jdbc.query("PRAGMA table_info(" + c.table() + ")",
+                    (rs, i) -> rs.getString("name"));
+            if (existing.isEmpty() || existing.contains(c.name())) continue;
+            tx.executeWithoutResult(status -> {
+                jdbc.execute("ALTER TABLE " + c.table() + " ADD COLUMN " + c.name() + " " + c.definition());
+                if (c.backfill() != null) jdbc.update(c.backfill());
+            });
+            log.info("컬럼 추가: {}.{}", c.table(), c.name());
+        }
+    }
+}
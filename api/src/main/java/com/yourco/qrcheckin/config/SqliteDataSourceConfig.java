@@ -0,0 +1,132 @@
+package com.yourco.qrcheckin.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.util.concurrent.Semaphore;
+
+/**
+ * SQLite reader/writer 분리.
+ * - writer: 커넥션 1개 (SQLite는 writer가 하나뿐이므로 앱 안에서 줄을 세운다)
+ * - reader: 읽기 전용 풀. WAL 모드라 writer가 쓰는 중에도 읽을 수 있다.
+ * 트랜잭션이 readOnly이면 reader로, 아니면 writer로 보낸다.
+ * 리포지토리는 클래스에 @Transactional(readOnly = true), 쓰기 메소드에 @Transactional 을 붙여 자동으로 나뉜다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 VirtualThreadJdbcGuard로 감싼다.
+ */
+@Configuration
+public class SqliteDataSourceConfig {
+
+    @Value("${app.sqlite.path:./data/attendance.db}")
+    private String path;
+
+    @Value("${app.sqlite.journal-mode:WAL}")
+    private String journalMode;
+
+    @Value("${app.sqlite.synchronous:NORMAL}")
+    private String synchronous;
+
+    @Value("${app.sqlite.busy-timeout-ms:5000}")
+    private int busyTimeoutMs;
+
+    // 음수면 KiB 단위 (SQLite 규칙)
+    @Value("${app.sqlite.cache-size:-16000}")
+    private int cacheSize;
+
+    @Value("${app.sqlite.mmap-size:268435456}")
+    private long mmapSize;
+
+    @Value("${app.sqlite.reader-pool-size:4}")
+    private int readerPoolSize;
+
+    @Value("${app.sqlite.connection-timeout-ms:30000}")
+    private long connectionTimeoutMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 가상 스레드 모드에서 동시에 JDBC를 쓸 수 있는 가상 스레드 수 (0이면 CPU 코어 수 - 1).
+    // writer 몫 1개를 빼고 나머지를 reader 가 쓴다 (reader 풀 크기를 넘지 않게)
+    @Value("${app.sqlite.virtual-thread-permits:0}")
+    private int virtualThreadPermits;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteWriterDataSource() {
+        File parent = new File(path).getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        SQLiteConfig sqlite = baseConfig();
+        sqlite.setJournalMode(SQLiteConfig.JournalMode.valueOf(journalMode.toUpperCase()));
+
+        HikariConfig hikari = hikariConfig("sqlite-writer", sqlite);
+        hikari.setMaximumPoolSize(1);
+        hikari.setMinimumIdle(1);
+        return new HikariDataSource(hikari);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteReaderDataSource(@Qualifier("sqliteWriterDataSource") HikariDataSource writer) {
+        // writer가 먼저 DB 파일과 WAL 모드를 만든 뒤에 연다
+        SQLiteConfig sqlite = baseConfig();
+        sqlite.setReadOnly(true);
+
+        HikariConfig hikari = hikariConfig("sqlite-reader", sqlite);
+        hikari.setMaximumPoolSize(readerPoolSize);
+        hikari.setMinimumIdle(1);
+        hikari.setReadOnly(true);
+        hikari.setInitializationFailTimeout(-1);
+        return new HikariDataSource(hikari);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriterDataSource") HikariDataSource writer,
+                                 @Qualifier("sqliteReaderDataSource") HikariDataSource reader) {
+        if (!virtualThreads) {
+            LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(writer);
+            routing.setReadOnlyDataSource(reader);
+            return routing;
+        }
+
+        int permits = virtualThreadPermits > 0
+                ? virtualThreadPermits
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        // 풀마다 따로 센다. 함께 세면 reader(내보내기 등)가 permit 을 다 잡고 있는 동안 writer 가 못 들어가고,
+        // reader permit 을 쥔 채 writer 커넥션을 여는 스레드끼리 교착될 수 있다
+        Semaphore writerPermits = new Semaphore(writer.getMaximumPoolSize(), true);
+        Semaphore readerPermits = new Semaphore(Math.max(1, Math.min(readerPoolSize, permits - 1)), true);
+        LazyConnectionDataSourceProxy routing =
+                new LazyConnectionDataSourceProxy(new VirtualThreadJdbcGuard(writer, writerPermits));
+        routing.setReadOnlyDataSource(new VirtualThreadJdbcGuard(reader, readerPermits));
+        return routing;
+    }
+
+    private SQLiteConfig baseConfig() {
+        SQLiteConfig sqlite = new SQLiteConfig();
+        sqlite.setSynchronous(SQLiteConfig.SynchronousMode.valueOf(synchronous.toUpperCase()));
+        sqlite.setBusyTimeout(busyTimeoutMs);
+        sqlite.setCacheSize(cacheSize);
+        return sqlite;
+    }
+
+    private HikariConfig hikariConfig(String poolName, SQLiteConfig sqlite) {
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName(poolName);
+        hikari.setDriverClassName("org.sqlite.JDBC");
+        hikari.setJdbcUrl("jdbc:sqlite:" + path);
+        hikari.setDataSourceProperties(sqlite.toProperties());
+        hikari.setConnectionInitSql("PRAGMA mmap_size = " + mmapSize);
+        hikari.setConnectionTimeout(connectionTimeoutMs);
+        return hikari;
+    }
+}
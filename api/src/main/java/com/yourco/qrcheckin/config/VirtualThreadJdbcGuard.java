@@ -0,0 +1,106 @@
+package com.yourco.qrcheckin.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가상 스레드에서 SQLite 커넥션을 쓸 때의 carrier pinning 방지.
+ * sqlite-jdbc의 네이티브 호출은 synchronized + JNI 라서 실행되는 동안(busy_timeout 대기 포함)
+ * carrier 스레드를 붙잡는다. 커넥션을 빌리는 가상 스레드 수를 세마포어로 carrier 수보다 적게 제한해
+ * DB를 기다리는 요청이 나머지 요청 처리까지 막지 않도록 한다.
+ * 세마포어 대기는 park 이므로 pinning 되지 않는다. 플랫폼 스레드(배치 writer, 스케줄러 등)는 제한하지 않는다.
+ * 세마포어는 풀마다 따로 둔다 (writer 는 풀 크기만큼, reader 는 reader 풀 크기 이하).
+ */
+public class VirtualThreadJdbcGuard extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    /**
+     * @param permits 이 풀 전용 세마포어 (이 풀 때문에 동시에 붙잡힐 수 있는 carrier 수의 상한)
+     */
+    public VirtualThreadJdbcGuard(DataSource target, Semaphore permits) {
+        super(target);
+        this.permits = permits;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!Thread.currentThread().isVirtual()) {
+            return super.getConnection();
+        }
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!Thread.currentThread().isVirtual()) {
+            return super.getConnection(username, password);
+        }
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("DB 커넥션 대기 중 인터럽트", e);
+        }
+    }
+
+    // close() 때 permit 반환 (여러 번 호출돼도 한 번만)
+    private Connection guard(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if (isClose(method) && released.compareAndSet(false, true)) {
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                } finally {
+                    permits.release();
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static boolean isClose(Method method) {
+        return method.getName().equals("close") && method.getParameterCount() == 0;
+    }
+}
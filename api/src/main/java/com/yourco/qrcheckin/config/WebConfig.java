@@ -2,9 +2,12 @@ package com.yourco.qrcheckin.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -14,9 +17,11 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // 업로드된 파일을 /api/uploads/ 경로로 서빙
+        // 파일 이름이 내용 해시(예전 업로드는 임의 UUID)라 같은 URL의 내용이 바뀌지 않으므로 오래 캐시
         String location = uploadPath.startsWith("/") ? "file:" + uploadPath + "/" : "file:./" + uploadPath + "/";
         registry.addResourceHandler("/api/uploads/**")
-                .addResourceLocations(location);
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
     }
 }
 
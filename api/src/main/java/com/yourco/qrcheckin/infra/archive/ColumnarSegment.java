@@ -0,0 +1,205 @@
+package com.yourco.qrcheckin.infra.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 열 단위로 저장하는 압축 세그먼트 파일 (.qca).
+ * - 문자열 열: 사전(dictionary) + 행마다 사전 번호 (세션 ID/구역/시각처럼 반복되는 값이 번호 하나로 줄어든다)
+ * - 숫자 열: 앞 행과의 차이를 zigzag varint 로 (정렬된 id 는 대개 1바이트)
+ * 전체를 gzip 으로 감싼다. 열 순서대로 기록하므로 앞쪽 열만 필요하면 뒤쪽은 풀지 않고 멈춘다.
+ *
+ * 형식: MAGIC, 행 수, 열 수, 열마다 [이름, 종류, 내용]
+ */
+public final class ColumnarSegment {
+
+    public static final String EXTENSION = ".qca";
+
+    private static final int MAGIC = 0x51434131; // "QCA1"
+    private static final byte DICTIONARY = 0;
+    private static final byte DELTA_LONG = 1;
+
+    private ColumnarSegment() {}
+
+    /** 행을 열별로 모은다. 문자열은 넣는 즉시 사전 번호로 바꿔 둔다. */
+    public static final class Builder {
+
+        private final List<String> stringColumns;
+        private final List<String> longColumns;
+        private final List<Map<String, Integer>> dictionaries;
+        private final int[][] codes;
+        private final long[][] longs;
+        private int capacity = 64;
+        private int size;
+
+        public Builder(List<String> stringColumns, List<String> longColumns) {
+            this.stringColumns = List.copyOf(stringColumns);
+            this.longColumns = List.copyOf(longColumns);
+            this.dictionaries = stringColumns.stream().<Map<String, Integer>>map(c -> new HashMap<>()).toList();
+            this.codes = new int[stringColumns.size()][capacity];
+            this.longs = new long[longColumns.size()][capacity];
+        }
+
+        /** strings/longs 는 생성자에서 받은 열 순서대로 */
+        public void add(String[] strings, long[] values) {
+            if (strings.length != stringColumns.size() || values.length != longColumns.size()) {
+                throw new IllegalArgumentException("열 수가 맞지 않습니다");
+            }
+            if (size == capacity) grow();
+            for (int c = 0; c < strings.length; c++) {
+                Map<String, Integer> dict = dictionaries.get(c);
+                String s = strings[c] == null ? "" : strings[c];
+                Integer code = dict.get(s);
+                if (code == null) {
+                    code = dict.size();
+                    dict.put(s, code);
+                }
+                codes[c][size] = code;
+            }
+            for (int c = 0; c < values.length; c++) longs[c][size] = values[c];
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void writeTo(OutputStream target) throws IOException {
+            GZIPOutputStream gzip = new GZIPOutputStream(target, 64 * 1024);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(gzip, 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeInt(size);
+            out.writeInt(stringColumns.size() + longColumns.size());
+
+            for (int c = 0; c < stringColumns.size(); c++) {
+                out.writeUTF(stringColumns.get(c));
+                out.writeByte(DICTIONARY);
+                String[] dict = new String[dictionaries.get(c).size()];
+                dictionaries.get(c).forEach((s, code) -> dict[code] = s);
+                writeVarLong(out, dict.length);
+                for (String s : dict) out.writeUTF(s);
+                for (int i = 0; i < size; i++) writeVarLong(out, codes[c][i]);
+            }
+            for (int c = 0; c < longColumns.size(); c++) {
+                out.writeUTF(longColumns.get(c));
+                out.writeByte(DELTA_LONG);
+                long prev = 0;
+                for (int i = 0; i < size; i++) {
+                    long v = longs[c][i];
+                    long delta = v - prev;
+                    writeVarLong(out, (delta << 1) ^ (delta >> 63));
+                    prev = v;
+                }
+            }
+            out.flush();
+            gzip.finish();
+        }
+
+        private void grow() {
+            capacity *= 2;
+            for (int c = 0; c < codes.length; c++) codes[c] = Arrays.copyOf(codes[c], capacity);
+            for (int c = 0; c < longs.length; c++) longs[c] = Arrays.copyOf(longs[c], capacity);
+        }
+    }
+
+    /** 읽은 열들. 문자열 열의 같은 값은 같은 String 인스턴스다. */
+    public record Data(int rows, Map<String, String[]> strings, Map<String, long[]> longs) {
+
+        public String[] strings(String column) {
+            String[] values = strings.get(column);
+            if (values == null) throw new IllegalArgumentException("읽지 않은 열입니다: " + column);
+            return values;
+        }
+
+        public long[] longs(String column) {
+            long[] values = longs.get(column);
+            if (values == null) throw new IllegalArgumentException("읽지 않은 열입니다: " + column);
+            return values;
+        }
+    }
+
+    /**
+     * columns 에 있는 열만 풀어 돌려준다. 필요한 열을 다 읽으면 나머지는 읽지 않는다.
+     * in 은 닫지 않는다.
+     */
+    public static Data read(InputStream in, Set<String> columns) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in, 64 * 1024), 64 * 1024));
+        int rows = header(data);
+        int columnCount = data.readInt();
+
+        Map<String, String[]> strings = new HashMap<>();
+        Map<String, long[]> longs = new HashMap<>();
+        Set<String> remaining = new HashSet<>(columns);
+        for (int c = 0; c < columnCount && !remaining.isEmpty(); c++) {
+            String name = data.readUTF();
+            boolean wanted = remaining.remove(name);
+            byte type = data.readByte();
+            if (type == DICTIONARY) {
+                String[] dict = new String[(int) readVarLong(data)];
+                for (int i = 0; i < dict.length; i++) dict[i] = data.readUTF();
+                String[] values = wanted ? new String[rows] : null;
+                for (int i = 0; i < rows; i++) {
+                    int code = (int) readVarLong(data);
+                    if (wanted) values[i] = dict[code];
+                }
+                if (wanted) strings.put(name, values);
+            } else if (type == DELTA_LONG) {
+                long[] values = wanted ? new long[rows] : null;
+                long prev = 0;
+                for (int i = 0; i < rows; i++) {
+                    long zigzag = readVarLong(data);
+                    prev += (zigzag >>> 1) ^ -(zigzag & 1);
+                    if (wanted) values[i] = prev;
+                }
+                if (wanted) longs.put(name, values);
+            } else {
+                throw new IOException("알 수 없는 열 형식: " + type);
+            }
+        }
+        if (!remaining.isEmpty()) throw new IllegalArgumentException("없는 열입니다: " + remaining);
+        return new Data(rows, strings, longs);
+    }
+
+    /** 머리글만 읽어 행 수를 돌려준다 */
+    public static int readRowCount(InputStream in) throws IOException {
+        return header(new DataInputStream(new GZIPInputStream(in, 512)));
+    }
+
+    private static int header(DataInputStream data) throws IOException {
+        if (data.readInt() != MAGIC) throw new IOException("세그먼트 파일이 아닙니다");
+        return data.readInt();
+    }
+
+    private static void writeVarLong(DataOutputStream out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
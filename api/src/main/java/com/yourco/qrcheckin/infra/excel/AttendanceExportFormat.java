@@ -0,0 +1,39 @@
+package com.yourco.qrcheckin.infra.excel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum AttendanceExportFormat {
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+    CSV("text/csv; charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    AttendanceExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public AttendanceExportWriter open(OutputStream out) throws IOException {
+        return this == XLSX ? new XlsxAttendanceWriter(out) : new CsvAttendanceWriter(out);
+    }
+
+    public static AttendanceExportFormat parse(String value) {
+        if (value == null || value.isBlank()) return XLSX;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (xlsx, csv)");
+        }
+    }
+}
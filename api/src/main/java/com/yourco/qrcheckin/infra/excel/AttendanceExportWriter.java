@@ -0,0 +1,31 @@
+package com.yourco.qrcheckin.infra.excel;
+
+import com.yourco.qrcheckin.attendance.model.AttendanceRecord;
+
+import java.io.IOException;
+
+/**
+ * 출석 기록을 한 줄씩 받아 파일로 쓴다. 전체 목록을 메모리에 올리지 않는다.
+ * 사용 순서: row() 를 여러 번 → finish() → close() (실패해도 close 로 임시 파일 정리)
+ */
+public interface AttendanceExportWriter extends AutoCloseable {
+
+    String[] HEADERS = {"번호", "이름", "구역", "전화번호", "출석 시간", "세션"};
+
+    void row(AttendanceRecord record) throws IOException;
+
+    void finish() throws IOException;
+
+    @Override
+    default void close() {
+    }
+
+    // 010-1234-5678 형식 (화면과 같게)
+    static String formatPhone(String phone) {
+        if (phone == null || phone.isEmpty()) return "";
+        String d = phone.replaceAll("\\D", "");
+        if (d.length() == 11) return d.substring(0, 3) + "-" + d.substring(3, 7) + "-" + d.substring(7);
+        if (d.length() == 10) return d.substring(0, 3) + "-" + d.substring(3, 6) + "-" + d.substring(6);
+        return phone;
+    }
+}
@@ -0,0 +1,59 @@
+package com.yourco.qrcheckin.infra.excel;
+
+import com.yourco.qrcheckin.attendance.model.AttendanceRecord;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV (UTF-8 BOM, 엑셀에서 한글이 깨지지 않게).
+ * 일정 건수마다 flush 해서 조회가 끝나기 전에도 다운로드가 진행된다.
+ */
+class CsvAttendanceWriter implements AttendanceExportWriter {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final Writer out;
+    private int count;
+
+    CsvAttendanceWriter(OutputStream stream) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 16 * 1024);
+        out.write('\uFEFF');
+        line(HEADERS);
+    }
+
+    @Override
+    public void row(AttendanceRecord r) throws IOException {
+        count++;
+        line(String.valueOf(count), r.name(), r.district(), AttendanceExportWriter.formatPhone(r.phone()),
+                r.checkedInAt(), r.sessionTitle());
+        if (count % FLUSH_EVERY == 0) out.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    private void line(String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) out.write(',');
+            out.write(escape(values[i]));
+        }
+        out.write("\r\n");
+    }
+
+    private static String escape(String value) {
+        if (value == null || value.isEmpty()) return "";
+        // 엑셀이 수식으로 해석하지 않도록
+        if ("=+-@".indexOf(value.charAt(0)) >= 0) value = "'" + value;
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -1,59 +1,304 @@
 package com.yourco.qrcheckin.infra.excel;
 
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
+import java.io.File;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Consumer;
 
+/**
+ * 명단 엑셀 읽기. 첫 시트의 A열=이름, B열=전화번호, C열=세례명, D열=구역.
+ * .xlsx 는 DOM을 만들지 않고 시트 XML을 SAX로 읽으며 한 행씩 넘긴다 (힙 사용량이 행 수와 무관).
+ * 업로드는 임시 파일로 받아(spool) zip 항목을 필요한 것만 풀어 읽는다.
+ * .xls(최대 65,536행)는 이벤트 모델이 달라 기존 DOM 방식으로 읽는다.
+ */
 @Component
 public class ParticipantExcelImporter {
 
+    private static final String FORMAT_ERROR =
+            "엑셀 읽기 실패: 첫 시트의 A열=이름, B열=전화번호, C열=세례명, D열=구역 형식인지 확인";
+    private static final int COLUMNS = 4;
+
     public record RowData(String name, String phone, String baptismalName, String district) {}
 
-    public List<RowData> read(InputStream in) {
-        try (Workbook wb = WorkbookFactory.create(in)) {
+    /** 임시 파일로 받아 형식까지 확인해 둔 업로드. 다 읽으면 close 로 지운다. */
+    public static final class Upload implements AutoCloseable {
+
+        private final Path file;
+        private final boolean xlsx;
+
+        private Upload(Path file, boolean xlsx) {
+            this.file = file;
+            this.xlsx = xlsx;
+        }
+
+        @Override
+        public void close() {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * 업로드를 임시 파일로 받고 형식(.xlsx/.xls)을 확인한다.
+     * DB 트랜잭션을 열기 전에 호출한다 (업로드 복사 동안 writer 커넥션을 잡고 있지 않도록).
+     */
+    public Upload spool(InputStream in) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile("roster-import-", ".tmp");
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            return new Upload(tmp, FileMagic.valueOf(tmp.toFile()) == FileMagic.OOXML);
+        } catch (Exception e) {
+            if (tmp != null) deleteQuietly(tmp);
+            throw new IllegalArgumentException(FORMAT_ERROR, e);
+        }
+    }
+
+    /**
+     * 읽은 행을 순서대로 sink 에 넘긴다. 빈 행과 머리글 행은 넘기지 않는다.
+     * sink 에서 난 예외는 감싸지 않고 그대로 던진다.
+     * @return 넘긴 행 수
+     */
+    public int stream(Upload upload, Consumer<RowData> sink) {
+        try {
+            File file = upload.file.toFile();
+            return upload.xlsx ? readXlsx(file, sink) : readWorkbook(file, sink);
+        } catch (SinkException e) {
+            throw e.getCause();
+        } catch (Exception e) {
+            throw new IllegalArgumentException(FORMAT_ERROR, e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (Exception ignore) {
+            // 임시 파일은 OS가 정리
+        }
+    }
+
+    private int readXlsx(File file, Consumer<RowData> sink) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            // 공유 문자열은 셀이 인덱스로 가리키므로 메모리에 올려야 한다 (고유 문자열 수에 비례)
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) throw new IllegalArgumentException("시트가 없습니다");
+
+            SheetHandler handler = new SheetHandler(strings, sink);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(handler);
+                parser.parse(new InputSource(sheet));
+            }
+            return handler.emitted;
+        }
+    }
+
+    private int readWorkbook(File file, Consumer<RowData> sink) throws Exception {
+        try (Workbook wb = WorkbookFactory.create(file, null, true)) {
             Sheet sheet = wb.getSheetAt(0);
 
-            List<RowData> rows = new ArrayList<>();
+            int emitted = 0;
             for (int i = 0; i <= sheet.getLastRowNum(); i++) {
                 Row r = sheet.getRow(i);
                 if (r == null) continue;
 
-                String name = cellToString(r.getCell(0)).trim();
-                String phone = cellToString(r.getCell(1)).trim();
-                String baptismalName = cellToString(r.getCell(2)).trim();
-                String district = cellToString(r.getCell(3)).trim();
+                String[] cells = new String[COLUMNS];
+                for (int c = 0; c < COLUMNS; c++) cells[c] = cellToString(r.getCell(c));
+                if (emit(i, cells, sink)) emitted++;
+            }
+            return emitted;
+        }
+    }
 
-                if (name.isBlank() || phone.isBlank()) continue;
-                if (i == 0 && (name.contains("이름") || phone.contains("전화"))) continue;
+    private static boolean emit(int rowIndex, String[] cells, Consumer<RowData> sink) {
+        String name = cells[0].trim();
+        String phone = cells[1].trim();
+        String baptismalName = cells[2].trim();
+        String district = cells[3].trim();
 
-                rows.add(new RowData(name, phone, baptismalName, district));
-            }
-            return rows;
-        } catch (Exception e) {
-            throw new IllegalArgumentException("엑셀 읽기 실패: 첫 시트의 A열=이름, B열=전화번호, C열=세례명, D열=구역 형식인지 확인", e);
+        if (name.isBlank() || phone.isBlank()) return false;
+        if (rowIndex == 0 && (name.contains("이름") || phone.contains("전화"))) return false;
+
+        try {
+            sink.accept(new RowData(name, phone, baptismalName, district));
+        } catch (RuntimeException e) {
+            throw new SinkException(e);
         }
+        return true;
     }
 
     private static String cellToString(Cell cell) {
         if (cell == null) return "";
         return switch (cell.getCellType()) {
             case STRING -> cell.getStringCellValue();
-            case NUMERIC -> {
-                double v = cell.getNumericCellValue();
-                long lv = (long) v;
-                yield String.valueOf(lv);
-            }
+            case NUMERIC -> numberToString(cell.getNumericCellValue());
             case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
             case FORMULA -> cell.getCellFormula();
             default -> "";
         };
     }
 
+    // 전화번호가 숫자 셀이면 0이 떨어진 정수로 들어온다 (정규화에서 처리)
+    private static String numberToString(double v) {
+        long lv = (long) v;
+        return String.valueOf(lv);
+    }
+
+    /** sink 예외를 형식 오류와 구분하기 위한 포장 */
+    private static final class SinkException extends RuntimeException {
+        SinkException(RuntimeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+
+    /**
+     * sheetN.xml 의 row/c 요소를 읽어 A~D열만 모은다.
+     * 셀 값 해석은 DOM 경로(cellToString)와 같게 맞춘다:
+     * 공유/인라인 문자열은 그대로, 숫자는 정수로, 불리언은 true/false, 수식은 수식 문자열, 오류는 빈 값.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable strings;
+        private final Consumer<RowData> sink;
+
+        private final String[] cells = new String[COLUMNS];
+        private final StringBuilder text = new StringBuilder();
+        private int rowIndex = -1;
+        private int nextColumn;
+        int emitted;
+
+        // 현재 셀
+        private int column = -1;
+        private String type;
+        private String value;
+        private String formula;
+        private boolean capturing;
+        private boolean inPhonetic;
+
+        SheetHandler(ReadOnlySharedStringsTable strings, Consumer<RowData> sink) {
+            this.strings = strings;
+            this.sink = sink;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attrs) {
+            switch (localName) {
+                case "row" -> {
+                    String r = attrs.getValue("r");
+                    rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                    nextColumn = 0;
+                    Arrays.fill(cells, "");
+                }
+                case "c" -> {
+                    String ref = attrs.getValue("r");
+                    column = ref != null ? columnOf(ref) : nextColumn;
+                    nextColumn = column + 1;
+                    type = attrs.getValue("t");
+                    value = null;
+                    formula = null;
+                }
+                case "v", "f" -> startText();
+                case "t" -> {
+                    // 인라인 문자열 <is><t>..</t></is> (윗주 rPh 안의 t는 제외)
+                    if (!inPhonetic) {
+                        if (value == null) value = "";
+                        startText();
+                    }
+                }
+                case "rPh" -> inPhonetic = true;
+                default -> { }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v" -> value = endText();
+                case "f" -> formula = endText();
+                case "t" -> {
+                    if (capturing) value = value + endText();
+                }
+                case "rPh" -> inPhonetic = false;
+                case "c" -> {
+                    if (column >= 0 && column < COLUMNS) cells[column] = cellValue();
+                    column = -1;
+                }
+                case "row" -> {
+                    if (emit(rowIndex, cells, sink)) emitted++;
+                }
+                default -> { }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (capturing) text.append(ch, start, length);
+        }
+
+        private void startText() {
+            // D열 밖의 셀은 내용을 모으지 않는다
+            if (column < 0 || column >= COLUMNS) return;
+            text.setLength(0);
+            capturing = true;
+        }
+
+        private String endText() {
+            if (!capturing) return null;
+            capturing = false;
+            return text.toString();
+        }
+
+        private String cellValue() {
+            // 공유 수식의 나머지 셀은 <f> 가 비어 있으므로 계산된 값을 쓴다
+            if (formula != null && !formula.isEmpty()) return formula;
+            if (value == null) return "";
+            if (type == null) return numberToString(Double.parseDouble(value));
+            return switch (type) {
+                case "s" -> strings.getItemAt(Integer.parseInt(value)).getString();
+                case "inlineStr", "str" -> value;
+                case "n" -> numberToString(Double.parseDouble(value));
+                case "b" -> String.valueOf("1".equals(value));
+                default -> "";
+            };
+        }
+
+        private static int columnOf(String ref) {
+            int col = 0;
+            for (int i = 0; i < ref.length(); i++) {
+                char ch = ref.charAt(i);
+                if (ch < 'A' || ch > 'Z') break;
+                col = col * 26 + (ch - 'A' + 1);
+            }
+            return col - 1;
+        }
+    }
 }
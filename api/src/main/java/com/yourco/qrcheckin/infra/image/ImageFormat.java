@@ -0,0 +1,37 @@
+package com.yourco.qrcheckin.infra.image;
+
+import java.util.Locale;
+
+/**
+ * 축소본 형식. JDK ImageIO 로 쓸 수 있는 것만 (WebP 인코더는 JDK에 없다).
+ * 투명 배경 로고는 PNG, 사진은 JPG가 작다.
+ */
+public enum ImageFormat {
+    PNG("png", "image/png"),
+    JPG("jpg", "image/jpeg");
+
+    private final String extension;
+    private final String contentType;
+
+    ImageFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static ImageFormat parse(String value) {
+        if (value == null) throw new IllegalArgumentException("형식이 없습니다");
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "png" -> PNG;
+            case "jpg", "jpeg" -> JPG;
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (png, jpg)");
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.yourco.qrcheckin.infra.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 이미지 축소 (ImageIO + Java2D).
+ * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 여러 번 줄인 뒤 마지막에 맞춘다.
+ * 원본보다 크게 키우지는 않는다.
+ * 디코딩하면 가로x세로 픽셀만큼 메모리를 쓰므로 (파일은 작아도) 헤더의 크기부터 보고 max-pixels 를 넘으면 거절한다.
+ */
+@Component
+public class ImageResizer {
+
+    @Value("${app.upload.max-image-pixels:16777216}")
+    private long maxPixels;
+
+    /**
+     * 헤더만 읽어 크기를 확인한다. ImageIO 로 읽을 수 없는 형식이면 그냥 넘어간다.
+     * @throws IllegalArgumentException max-pixels 를 넘을 때
+     */
+    public void checkSize(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = readerFor(in);
+            if (reader == null) return;
+            try {
+                checkSize(reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public void resize(Path source, Path target, int width, ImageFormat format) throws IOException {
+        BufferedImage src;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = readerFor(in);
+            if (reader == null) throw new IllegalArgumentException("읽을 수 없는 이미지 형식입니다");
+            try {
+                checkSize(reader);
+                src = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        int w = Math.min(width, src.getWidth());
+        int h = Math.max(1, Math.round(src.getHeight() * (w / (float) src.getWidth())));
+        boolean alpha = format == ImageFormat.PNG;
+
+        BufferedImage current = src;
+        while (current.getWidth() / 2 >= w) {
+            current = scale(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2), alpha);
+        }
+        BufferedImage out = scale(current, w, h, alpha);
+
+        try (OutputStream os = Files.newOutputStream(target)) {
+            if (!ImageIO.write(out, format.extension(), os)) {
+                throw new IOException("이미지 쓰기 실패: " + format);
+            }
+        }
+    }
+
+    private void checkSize(ImageReader reader) throws IOException {
+        int w = reader.getWidth(0);
+        int h = reader.getHeight(0);
+        if ((long) w * h > maxPixels) {
+            throw new IllegalArgumentException("이미지가 너무 큽니다: " + w + "x" + h + " (최대 " + maxPixels + "픽셀)");
+        }
+    }
+
+    private static ImageReader readerFor(ImageInputStream in) {
+        if (in == null) return null;
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) return null;
+        ImageReader reader = readers.next();
+        reader.setInput(in, true, true);
+        return reader;
+    }
+
+    private static BufferedImage scale(BufferedImage src, int w, int h, boolean alpha) {
+        BufferedImage dst = new BufferedImage(w, h, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            if (!alpha) {
+                // JPG는 투명도가 없으므로 흰 배경
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, w, h);
+            }
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+}
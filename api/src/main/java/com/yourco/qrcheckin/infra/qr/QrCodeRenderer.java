@@ -0,0 +1,103 @@
+package com.yourco.qrcheckin.infra.qr;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ZXing 으로 QR 코드 이미지를 만든다.
+ * PNG는 요청한 픽셀 크기로, SVG는 모듈 단위 path 하나로 그려 크기와 상관없이 선명하다.
+ */
+@Component
+public class QrCodeRenderer {
+
+    public static final int MIN_SIZE = 64;
+    public static final int MAX_SIZE = 2048;
+
+    // 인쇄용 포스터에서도 인식되도록 여백(quiet zone)은 표준대로 4모듈
+    private static final int MARGIN = 4;
+
+    public byte[] render(String text, QrImageFormat format, int size, ErrorCorrectionLevel ecc) {
+        return format == QrImageFormat.PNG ? png(text, size, ecc) : svg(text, size, ecc);
+    }
+
+    public byte[] png(String text, int size, ErrorCorrectionLevel ecc) {
+        BitMatrix matrix = encode(text, size, ecc);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+        try {
+            MatrixToImageWriter.writeToStream(matrix, "PNG", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public byte[] svg(String text, int size, ErrorCorrectionLevel ecc) {
+        // 크기 0으로 인코딩하면 1모듈 = 1칸인 최소 행렬 (여백 포함)
+        BitMatrix matrix = encode(text, 0, ecc);
+        int w = matrix.getWidth();
+        int h = matrix.getHeight();
+
+        StringBuilder path = new StringBuilder(w * h / 2);
+        for (int y = 0; y < h; y++) {
+            int x = 0;
+            while (x < w) {
+                if (!matrix.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < w && matrix.get(x, y)) x++;
+                // 가로로 이어진 검은 모듈은 사각형 하나로
+                path.append('M').append(start).append(' ').append(y)
+                        .append('h').append(x - start).append("v1h-").append(x - start).append('z');
+            }
+        }
+
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + size + "\" height=\"" + size
+                + "\" viewBox=\"0 0 " + w + " " + h + "\" shape-rendering=\"crispEdges\">"
+                + "<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>"
+                + "<path fill=\"#000\" d=\"" + path + "\"/></svg>";
+        return svg.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static ErrorCorrectionLevel parseErrorCorrection(String value) {
+        if (value == null || value.isBlank()) return ErrorCorrectionLevel.M;
+        try {
+            return ErrorCorrectionLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 오류 정정 단계입니다: " + value + " (L, M, Q, H)");
+        }
+    }
+
+    public static int checkSize(int size) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size는 " + MIN_SIZE + "~" + MAX_SIZE + " 사이여야 합니다: " + size);
+        }
+        return size;
+    }
+
+    private static BitMatrix encode(String text, int size, ErrorCorrectionLevel ecc) {
+        try {
+            return new QRCodeWriter().encode(text, BarcodeFormat.QR_CODE, size, size, Map.of(
+                    EncodeHintType.ERROR_CORRECTION, ecc,
+                    EncodeHintType.CHARACTER_SET, "UTF-8",
+                    EncodeHintType.MARGIN, MARGIN
+            ));
+        } catch (WriterException e) {
+            throw new IllegalArgumentException("QR 코드로 만들 수 없는 내용입니다", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.yourco.qrcheckin.infra.qr;
+
+public enum QrImageFormat {
+    PNG("image/png"),
+    SVG("image/svg+xml");
+
+    private final String contentType;
+
+    QrImageFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+}
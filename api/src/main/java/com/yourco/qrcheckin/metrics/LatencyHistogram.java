@@ -0,0 +1,53 @@
+package com.yourco.qrcheckin.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 지연 시간 히스토그램 (Prometheus histogram 형식).
+ * 기록은 구간 찾기 + LongAdder 증가뿐이라 체크인 경로에 넣어도 부담이 없다.
+ */
+public final class LatencyHistogram {
+
+    // 구간 상한 (초): 50us ~ 10s
+    static final double[] BOUNDS_SECONDS = {
+        0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025,
+        0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS_SECONDS.length; i++) {
+            BOUNDS_NANOS[i] = (long) (BOUNDS_SECONDS[i] * 1e9);
+        }
+    }
+
+    // 마지막 칸은 +Inf
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        int i = 0;
+        while (i < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[i]) i++;
+        buckets[i].increment();
+        sumNanos.add(nanos);
+    }
+
+    /** 구간별 누적 건수 (le 기준, 마지막이 전체 건수) */
+    long[] cumulativeCounts() {
+        long[] out = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            out[i] = running;
+        }
+        return out;
+    }
+
+    double sumSeconds() {
+        return sumNanos.sum() / 1e9;
+    }
+}
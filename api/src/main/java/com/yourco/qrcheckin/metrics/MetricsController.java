@@ -0,0 +1,26 @@
+package com.yourco.qrcheckin.metrics;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/metrics")
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+
+    private final MetricsRegistry registry;
+
+    public MetricsController(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Prometheus 가 직접 긁어갈 수 있는 text format
+    @GetMapping
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok().contentType(PROMETHEUS_TEXT).body(registry.scrape());
+    }
+}
@@ -0,0 +1,130 @@
+package com.yourco.qrcheckin.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 앱 내부 지표 모음. 외부 라이브러리 없이 Prometheus text format(0.0.4)으로 내보낸다.
+ * - histogram / counter: 코드에서 직접 기록
+ * - source: 기존 stats() Map 의 숫자 값을 gauge 로 내보냄 (이름: qrcheckin_{source}_{key})
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final String PREFIX = "qrcheckin_";
+
+    private record Series(String labels, Object value) {}
+
+    private static final class Family {
+        final String type;
+        final String help;
+        final List<Series> series = new CopyOnWriteArrayList<>();
+
+        Family(String type, String help) {
+            this.type = type;
+            this.help = help;
+        }
+    }
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+    private final Map<String, Supplier<Map<String, Object>>> sources = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogram(String name, String help, String labelName, String labelValue) {
+        LatencyHistogram h = new LatencyHistogram();
+        register(name, "histogram", help, label(labelName, labelValue), h);
+        return h;
+    }
+
+    public LongAdder counter(String name, String help, String labelName, String labelValue) {
+        LongAdder c = new LongAdder();
+        register(name, "counter", help, label(labelName, labelValue), c);
+        return c;
+    }
+
+    public void source(String name, Supplier<Map<String, Object>> stats) {
+        sources.put(name, stats);
+    }
+
+    public String scrape() {
+        StringBuilder sb = new StringBuilder(8192);
+        for (var e : families.entrySet()) {
+            String name = PREFIX + e.getKey();
+            Family f = e.getValue();
+            sb.append("# HELP ").append(name).append(' ').append(f.help).append('\n');
+            sb.append("# TYPE ").append(name).append(' ').append(f.type).append('\n');
+            for (Series s : f.series) {
+                if (s.value() instanceof LatencyHistogram h) {
+                    writeHistogram(sb, name, s.labels(), h);
+                } else if (s.value() instanceof LongAdder c) {
+                    sample(sb, name, s.labels(), c.sum());
+                }
+            }
+        }
+
+        for (var e : new ConcurrentSkipListMap<>(sources).entrySet()) {
+            Map<String, Object> stats;
+            try {
+                stats = e.getValue().get();
+            } catch (RuntimeException ex) {
+                continue;  // 한 곳이 실패해도 나머지는 내보낸다
+            }
+            for (var stat : new ConcurrentSkipListMap<>(stats).entrySet()) {
+                Double value = toNumber(stat.getValue());
+                if (value == null) continue;
+                String name = PREFIX + e.getKey() + "_" + snakeCase(stat.getKey());
+                sb.append("# TYPE ").append(name).append(" gauge\n");
+                sample(sb, name, "", value);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void register(String name, String type, String help, String labels, Object value) {
+        Family f = families.computeIfAbsent(name, n -> new Family(type, help));
+        if (!f.type.equals(type)) {
+            throw new IllegalArgumentException("metric type mismatch: " + name);
+        }
+        f.series.add(new Series(labels, value));
+    }
+
+    private static void writeHistogram(StringBuilder sb, String name, String labels, LatencyHistogram h) {
+        long[] counts = h.cumulativeCounts();
+        String sep = labels.isEmpty() ? "" : labels + ",";
+        for (int i = 0; i < LatencyHistogram.BOUNDS_SECONDS.length; i++) {
+            sample(sb, name + "_bucket", sep + "le=\"" + BigDecimal.valueOf(LatencyHistogram.BOUNDS_SECONDS[i]).stripTrailingZeros().toPlainString() + "\"", counts[i]);
+        }
+        sample(sb, name + "_bucket", sep + "le=\"+Inf\"", counts[counts.length - 1]);
+        sample(sb, name + "_sum", labels, h.sumSeconds());
+        sample(sb, name + "_count", labels, counts[counts.length - 1]);
+    }
+
+    private static void sample(StringBuilder sb, String name, String labels, Object value) {
+        sb.append(name);
+        if (!labels.isEmpty()) sb.append('{').append(labels).append('}');
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private static String label(String name, String value) {
+        return name == null ? "" : name + "=\"" + value + "\"";
+    }
+
+    private static Double toNumber(Object v) {
+        if (v instanceof Number n) return n.doubleValue();
+        if (v instanceof Boolean b) return b ? 1.0 : 0.0;
+        return null;
+    }
+
+    // avgCommitMillis -> avg_commit_millis
+    private static String snakeCase(String key) {
+        return key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replaceAll("[^A-Za-z0-9_]", "_").toLowerCase(Locale.ROOT);
+    }
+}
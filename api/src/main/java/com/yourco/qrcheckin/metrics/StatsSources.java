@@ -0,0 +1,66 @@
+package com.yourco.qrcheckin.metrics;
+
+import com.yourco.qrcheckin.admission.AdmissionLimiter;
+import com.yourco.qrcheckin.attendance.AttendanceBitmaps;
+import com.yourco.qrcheckin.attendance.AttendanceEventPublisher;
+import com.yourco.qrcheckin.attendance.AttendancePartitions;
+import com.yourco.qrcheckin.attendance.AttendanceWriteBatcher;
+import com.yourco.qrcheckin.participant.ParticipantRoster;
+import com.yourco.qrcheckin.session.SessionQrImages;
+import com.yourco.qrcheckin.session.SessionRegistry;
+import com.yourco.qrcheckin.upload.UploadStorage;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 관리자 stats 엔드포인트들의 값을 /api/admin/metrics 에도 gauge 로 내보낸다.
+ */
+@Component
+public class StatsSources {
+
+    private final MetricsRegistry registry;
+    private final SessionRegistry sessionRegistry;
+    private final ParticipantRoster roster;
+    private final AttendanceWriteBatcher writeBatcher;
+    private final AttendanceBitmaps bitmaps;
+    private final AdmissionLimiter admission;
+    private final AttendanceEventPublisher events;
+    private final SessionQrImages qrImages;
+    private final UploadStorage uploads;
+    private final AttendancePartitions partitions;
+
+    public StatsSources(MetricsRegistry registry,
+                        SessionRegistry sessionRegistry,
+                        ParticipantRoster roster,
+                        AttendanceWriteBatcher writeBatcher,
+                        AttendanceBitmaps bitmaps,
+                        AdmissionLimiter admission,
+                        AttendanceEventPublisher events,
+                        SessionQrImages qrImages,
+                        UploadStorage uploads,
+                        AttendancePartitions partitions) {
+        this.registry = registry;
+        this.sessionRegistry = sessionRegistry;
+        this.roster = roster;
+        this.writeBatcher = writeBatcher;
+        this.bitmaps = bitmaps;
+        this.admission = admission;
+        this.events = events;
+        this.qrImages = qrImages;
+        this.uploads = uploads;
+        this.partitions = partitions;
+    }
+
+    @PostConstruct
+    void register() {
+        registry.source("session_cache", sessionRegistry::stats);
+        registry.source("participant_roster", roster::stats);
+        registry.source("attendance_batch", writeBatcher::stats);
+        registry.source("attendance_bitmap", bitmaps::stats);
+        registry.source("admission", admission::stats);
+        registry.source("attendance_stream", events::stats);
+        registry.source("session_qr_cache", qrImages::stats);
+        registry.source("uploads", uploads::stats);
+        registry.source("attendance_partitions", partitions::stats);
+    }
+}
@@ -1,5 +1,6 @@
 package com.yourco.qrcheckin.participant;
 
+import com.yourco.qrcheckin.common.util.ETags;
 import com.yourco.qrcheckin.participant.model.ParticipantCreateRequest;
 import com.yourco.qrcheckin.participant.model.ParticipantImportResult;
 import com.yourco.qrcheckin.participant.model.ParticipantSearchItem;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,16 +23,17 @@ import java.util.Map;
 public class ParticipantController {
 
     private final ParticipantService service;
-    private final ParticipantRepository repository;
 
-    public ParticipantController(ParticipantService service, ParticipantRepository repository) {
+    public ParticipantController(ParticipantService service) {
         this.service = service;
-        this.repository = repository;
     }
 
     @GetMapping
-    public List<ParticipantSearchItem> list() {
-        return service.findAllParticipants();
+    public ResponseEntity<List<ParticipantSearchItem>> list(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = ETags.of("participants", service.getRosterVersion());
+        return ETags.respond(ifNoneMatch, etag, service::findAllParticipants);
     }
 
     @PostMapping
@@ -62,7 +65,13 @@ public class ParticipantController {
 
     @GetMapping("/stats/by-district")
     public Map<String, Integer> statsByDistrict() {
-        return repository.countByDistrict();
+        return service.countByDistrict();
+    }
+
+    // 메모리 명단 인덱스 크기/사용량
+    @GetMapping("/stats/roster")
+    public Map<String, Object> rosterStats() {
+        return service.getRosterStats();
     }
 
     @GetMapping("/template")
@@ -0,0 +1,116 @@
+package com.yourco.qrcheckin.participant;
+
+import com.yourco.qrcheckin.common.util.HangulChoseong;
+import com.yourco.qrcheckin.participant.model.Participant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이름 앞글자 검색용 정렬 배열 두 벌.
+ * - 이름 키(영문은 소문자로): "홍길" -> 홍길동
+ * - 초성 키: "ㅎㄱㄷ", "ㅎㄱ" -> 홍길동 / "홍ㄱ" 처럼 섞인 검색어는 초성 키로 범위를 찾은 뒤 글자별로 확인
+ * 이진 탐색으로 시작 위치를 찾고 앞글자가 맞는 동안만 읽는다.
+ * 만든 뒤에는 바꾸지 않는다 (명단이 바뀌면 ParticipantRoster가 다시 만든다).
+ */
+final class ParticipantNameIndex {
+
+    private record Entry(String key, Participant participant) {}
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key)
+            .thenComparing(e -> e.participant().name())
+            .thenComparingLong(e -> e.participant().id());
+
+    private final String[] nameKeys;
+    private final Participant[] byName;
+    private final String[] choseongKeys;
+    private final Participant[] byChoseong;
+    private final long estimatedBytes;
+
+    private ParticipantNameIndex(Entry[] names, Entry[] choseongs) {
+        nameKeys = new String[names.length];
+        byName = new Participant[names.length];
+        for (int i = 0; i < names.length; i++) {
+            nameKeys[i] = names[i].key();
+            byName[i] = names[i].participant();
+        }
+        choseongKeys = new String[choseongs.length];
+        byChoseong = new Participant[choseongs.length];
+        for (int i = 0; i < choseongs.length; i++) {
+            choseongKeys[i] = choseongs[i].key();
+            byChoseong[i] = choseongs[i].participant();
+        }
+        long bytes = 4 * (16L + 4L * nameKeys.length);
+        for (String key : choseongKeys) bytes += 24 + 16 + 2L * key.length();
+        estimatedBytes = bytes;
+    }
+
+    static ParticipantNameIndex build(Participant[] participants) {
+        Entry[] names = new Entry[participants.length];
+        Entry[] choseongs = new Entry[participants.length];
+        for (int i = 0; i < participants.length; i++) {
+            Participant p = participants[i];
+            String key = fold(p.name());
+            names[i] = new Entry(key, p);
+            choseongs[i] = new Entry(HangulChoseong.of(key), p);
+        }
+        Arrays.sort(names, ORDER);
+        Arrays.sort(choseongs, ORDER);
+        return new ParticipantNameIndex(names, choseongs);
+    }
+
+    List<Participant> search(String query, int limit) {
+        String q = fold(query);
+        if (!HangulChoseong.containsChoseong(q)) {
+            return scan(nameKeys, byName, q, null, limit);
+        }
+        String prefix = HangulChoseong.of(q);
+        // 검색어가 초성만이면 초성 키 앞글자 비교로 충분
+        String pattern = prefix.equals(q) ? null : q;
+        return scan(choseongKeys, byChoseong, prefix, pattern, limit);
+    }
+
+    /** 배열과 초성 키 문자열 크기 추정 (이름 키는 대개 이름 문자열을 그대로 쓴다). 만들 때 한 번 계산해 둔다. */
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private static List<Participant> scan(String[] keys, Participant[] values, String prefix, String pattern, int limit) {
+        List<Participant> result = new ArrayList<>(Math.min(limit, 32));
+        for (int i = lowerBound(keys, prefix); i < keys.length && result.size() < limit; i++) {
+            if (!keys[i].startsWith(prefix)) break;
+            if (pattern == null || HangulChoseong.startsWith(fold(values[i].name()), pattern)) {
+                result.add(values[i]);
+            }
+        }
+        return result;
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // SQLite LIKE 처럼 영문 대소문자는 구분하지 않는다. 바꿀 게 없으면 같은 인스턴스를 돌려준다.
+    private static String fold(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                char[] chars = s.toCharArray();
+                for (int j = i; j < chars.length; j++) {
+                    if (chars[j] >= 'A' && chars[j] <= 'Z') chars[j] += 'a' - 'A';
+                }
+                return new String(chars);
+            }
+        }
+        return s;
+    }
+}
@@ -9,10 +9,10 @@ import java.util.List;
 @RequestMapping("/api/participants")
 public class ParticipantPublicController {
 
-    private final ParticipantRepository repo;
+    private final ParticipantRoster roster;
 
-    public ParticipantPublicController(ParticipantRepository repo) {
-        this.repo = repo;
+    public ParticipantPublicController(ParticipantRoster roster) {
+        this.roster = roster;
     }
 
     @GetMapping("/search")
@@ -24,8 +24,9 @@ public class ParticipantPublicController {
         if (keyword.isEmpty()) return List.of();
 
         int safeLimit = Math.min(Math.max(limit, 1), 20);
+        // 키 입력마다 호출되므로 DB 대신 메모리 인덱스 (초성 검색 포함)
         // 공개 API에서는 전화번호 마스킹 유지 (phone 대신 빈 문자열)
-        return repo.searchByNamePrefix(keyword, safeLimit).stream()
+        return roster.searchByName(keyword, safeLimit).stream()
                 .map(p -> new ParticipantSearchItem(p.id(), p.name(), "", p.phoneLast4(), p.baptismalName(), p.district()))
                 .toList();
     }
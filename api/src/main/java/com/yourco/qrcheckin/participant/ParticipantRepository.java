@@ -1,22 +1,36 @@
 package com.yourco.qrcheckin.participant;
 
+import com.yourco.qrcheckin.common.util.TransactionHooks;
 import com.yourco.qrcheckin.participant.model.Participant;
+import jakarta.annotation.PostConstruct;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.time.OffsetDateTime;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 @Repository
+@Transactional(readOnly = true)
 public class ParticipantRepository {
     private final JdbcTemplate jdbc;
+    private final ParticipantRoster roster;
 
-    public ParticipantRepository(JdbcTemplate jdbc) {
+    public ParticipantRepository(JdbcTemplate jdbc, ParticipantRoster roster) {
         this.jdbc = jdbc;
+        this.roster = roster;
+    }
+
+    @PostConstruct
+    public void loadRoster() {
+        roster.load(findAll());
     }
 
     private static final RowMapper<Participant> MAPPER = (rs, rowNum) ->
@@ -31,14 +45,91 @@ public class ParticipantRepository {
                     rs.getString("created_at")
             );
 
-    public void insert(String name, String phone, String phoneHash, String phoneLast4, String baptismalName, String district) {
+    @Transactional
+    public long insert(String name, String phone, String phoneHash, String phoneLast4, String baptismalName, String district) {
         String now = OffsetDateTime.now().toString();
-        jdbc.update(
+        Participant row = new Participant(
+                0L,
+                name,
+                phone != null ? phone : "",
+                phoneHash,
+                phoneLast4,
+                baptismalName != null ? baptismalName : "",
+                district != null ? district : "",
+                now
+        );
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO participants(name, phone, phone_hash, phone_last4, baptismal_name, district, created_at) VALUES(?,?,?,?,?,?,?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, row.name());
+            ps.setString(2, row.phone());
+            ps.setString(3, row.phoneHash());
+            ps.setString(4, row.phoneLast4());
+            ps.setString(5, row.baptismalName());
+            ps.setString(6, row.district());
+            ps.setString(7, row.createdAt());
+            return ps;
+        }, keys);
+
+        long id = keys.getKey().longValue();
+        Participant inserted = new Participant(id, row.name(), row.phone(), row.phoneHash(), row.phoneLast4(),
+                row.baptismalName(), row.district(), row.createdAt());
+        TransactionHooks.afterCommit(() -> roster.put(inserted));
+        return id;
+    }
+
+    /**
+     * 여러 명을 batchUpdate 로 한꺼번에 넣는다 (batchSize 건씩 나눠 실행).
+     * SQLite batch는 생성 키를 돌려주지 않으므로 넣기 전 MAX(id) 보다 큰 행을 다시 읽어 명단에 반영한다.
+     * 쓰기는 커넥션 하나로만 하므로 그 사이에 다른 insert가 끼지 않는다.
+     */
+    @Transactional
+    public int insertAll(List<Participant> rows, int batchSize) {
+        if (rows.isEmpty()) return 0;
+        long maxBefore = maxId();
+
+        jdbc.batchUpdate(
                 "INSERT INTO participants(name, phone, phone_hash, phone_last4, baptismal_name, district, created_at) VALUES(?,?,?,?,?,?,?)",
-                name, phone != null ? phone : "", phoneHash, phoneLast4, baptismalName != null ? baptismalName : "", district != null ? district : "", now
+                rows,
+                batchSize,
+                (ps, row) -> {
+                    ps.setString(1, row.name());
+                    ps.setString(2, row.phone() != null ? row.phone() : "");
+                    ps.setString(3, row.phoneHash());
+                    ps.setString(4, row.phoneLast4());
+                    ps.setString(5, row.baptismalName() != null ? row.baptismalName() : "");
+                    ps.setString(6, row.district() != null ? row.district() : "");
+                    ps.setString(7, row.createdAt());
+                });
+
+        List<Participant> inserted = jdbc.query(
+                "SELECT id, name, phone, phone_hash, phone_last4, baptismal_name, district, created_at FROM participants " +
+                        "WHERE id > ? ORDER BY id",
+                MAPPER,
+                maxBefore
+        );
+        TransactionHooks.afterCommit(() -> roster.putAll(inserted));
+        return inserted.size();
+    }
+
+    /** 중복 확인용 (name, phone_hash) 전체. idx_participants_name_phonehash 만 읽는다. */
+    public void forEachNameAndPhoneHash(BiConsumer<String, String> action) {
+        jdbc.query(
+                "SELECT name, phone_hash FROM participants",
+                rs -> {
+                    action.accept(rs.getString(1), rs.getString(2));
+                }
         );
     }
 
+    public long maxId() {
+        Long n = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM participants", Long.class);
+        return n == null ? 0 : n;
+    }
+
     public Optional<Participant> findByNameAndPhoneHash(String name, String phoneHash) {
         List<Participant> list = jdbc.query(
                 "SELECT * FROM participants WHERE name = ? AND phone_hash = ? LIMIT 1",
@@ -79,23 +170,15 @@ public class ParticipantRepository {
         );
     }
 
+    @Transactional
     public void deleteAll() {
         jdbc.update("DELETE FROM participants");
+        TransactionHooks.afterCommit(roster::clear);
     }
 
+    @Transactional
     public void deleteById(long id) {
         jdbc.update("DELETE FROM participants WHERE id = ?", id);
-    }
-
-    public Map<String, Integer> countByDistrict() {
-        Map<String, Integer> result = new LinkedHashMap<>();
-        jdbc.query(
-                "SELECT COALESCE(NULLIF(district, ''), '미지정') as district, COUNT(*) as cnt " +
-                "FROM participants GROUP BY COALESCE(NULLIF(district, ''), '미지정') ORDER BY district",
-                (rs) -> {
-                    result.put(rs.getString("district"), rs.getInt("cnt"));
-                }
-        );
-        return result;
+        TransactionHooks.afterCommit(() -> roster.remove(id));
     }
 }
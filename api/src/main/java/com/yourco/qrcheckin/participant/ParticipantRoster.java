@@ -0,0 +1,315 @@
+package com.yourco.qrcheckin.participant;
+
+import com.yourco.qrcheckin.common.util.LongObjectHashMap;
+import com.yourco.qrcheckin.participant.model.Participant;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 참가자 명단 메모리 인덱스.
+ * - id -> 참가자 (long 키 맵, 박싱 없음): 체크인 시 본인 확인용
+ * - 이름순 배열: 관리자 목록용 (변경 후 처음 읽을 때 명단 락 밖에서 다시 정렬해 바꿔 끼운다)
+ * - 이름/초성 검색 인덱스: 체크인 화면 자동완성용 (이름순 배열과 같은 방식으로 다시 만든다)
+ * - 구역별 인원: 출석률 통계용 (넣고 뺄 때마다 바로 증감)
+ * - 메모리 사용량 추정치: metrics 용 (구역별 인원과 같이 넣고 뺄 때마다 증감)
+ * ParticipantRepository가 시작 시 적재하고, insert/delete 커밋 후 갱신한다.
+ */
+@Component
+public class ParticipantRoster {
+
+    private static final Comparator<Participant> BY_NAME =
+            Comparator.comparing(Participant::name).thenComparingLong(Participant::id);
+
+    // record 헤더 12 + long 8 + 참조 7개 * 4 = 48
+    private static final long PARTICIPANT_BYTES = 48;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 이름순 배열/검색 인덱스를 각각 한 스레드만 다시 만든다 (명단 락은 잡지 않으므로 체크인은 막지 않는다)
+    private final ReentrantLock sortLock = new ReentrantLock();
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private final LongObjectHashMap<Participant> byId = new LongObjectHashMap<>(1024);
+
+    // 구역/세례명처럼 반복되는 문자열은 한 인스턴스만 유지
+    private final Map<String, String> canonical = new HashMap<>();
+    private final Map<String, Integer> districtSizes = new HashMap<>();
+    // 참가자 레코드 + 문자열 바이트 합계 (공유 문자열은 canonical 에 처음 들어갈 때 한 번만 센다)
+    private long entryBytes;
+
+    private volatile Participant[] sortedByName;
+    private volatile ParticipantNameIndex searchIndex;
+    private volatile long version = 1;
+
+    public void load(Collection<Participant> participants) {
+        lock.writeLock().lock();
+        try {
+            byId.clear();
+            canonical.clear();
+            districtSizes.clear();
+            entryBytes = 0;
+            for (Participant p : participants) {
+                replace(compact(p));
+            }
+            invalidate();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Participant participant) {
+        lock.writeLock().lock();
+        try {
+            replace(compact(participant));
+            invalidate();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putAll(Collection<Participant> participants) {
+        if (participants.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            for (Participant p : participants) {
+                replace(compact(p));
+            }
+            invalidate();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Participant removed = byId.remove(id);
+            if (removed != null) {
+                countDistrict(removed.district(), -1);
+                entryBytes -= participantBytes(removed);
+                invalidate();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byId.clear();
+            canonical.clear();
+            districtSizes.clear();
+            entryBytes = 0;
+            invalidate();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Participant> findById(long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(byId.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Participant> findAllSortedByName() {
+        return Collections.unmodifiableList(Arrays.asList(sorted()));
+    }
+
+    /**
+     * 이름 앞글자 검색. "홍길", "ㅎㄱㄷ", "홍ㄱ" 모두 홍길동을 찾는다.
+     */
+    public List<Participant> searchByName(String query, int limit) {
+        return searchIndex().search(query, limit);
+    }
+
+    /** 구역 -> 인원 (구역 이름순, 구역이 비어 있으면 "") */
+    public Map<String, Integer> countByDistrict() {
+        lock.readLock().lock();
+        try {
+            return Collections.unmodifiableMap(new TreeMap<>(districtSizes));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 명단이 바뀔 때마다 올라가는 버전 (관리자 목록 ETag용) */
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메모리 사용량 추정치 (압축 OOP 64bit JVM 기준).
+     * 명단을 바꿀 때 갱신해 둔 값만 읽으므로 명단 크기와 관계없이 바로 끝난다.
+     */
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            long tableBytes = byId.tableBytes();
+            Participant[] sorted = sortedByName;
+            long sortedBytes = sorted == null ? 0 : 16L + 4L * sorted.length;
+            ParticipantNameIndex index = searchIndex;
+            long searchIndexBytes = index == null ? 0 : index.estimatedBytes();
+
+            int size = byId.size();
+            long total = tableBytes + sortedBytes + searchIndexBytes + entryBytes;
+            return Map.of(
+                "size", size,
+                "capacity", byId.capacity(),
+                "tableBytes", tableBytes,
+                "sortedIndexBytes", sortedBytes,
+                "searchIndexBytes", searchIndexBytes,
+                "entryBytes", entryBytes,
+                "estimatedBytes", total,
+                "bytesPerParticipant", size == 0 ? 0 : total / size
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Participant[] sorted() {
+        Participant[] s = sortedByName;
+        if (s != null) return s;
+
+        sortLock.lock();
+        try {
+            s = sortedByName;
+            if (s != null) return s;
+            Snapshot snap = snapshot();
+            Arrays.sort(snap.participants(), BY_NAME);
+            publish(snap.version(), () -> sortedByName = snap.participants());
+            return snap.participants();
+        } finally {
+            sortLock.unlock();
+        }
+    }
+
+    private ParticipantNameIndex searchIndex() {
+        ParticipantNameIndex index = searchIndex;
+        if (index != null) return index;
+
+        indexLock.lock();
+        try {
+            index = searchIndex;
+            if (index != null) return index;
+            Snapshot snap = snapshot();
+            ParticipantNameIndex built = ParticipantNameIndex.build(snap.participants());
+            publish(snap.version(), () -> searchIndex = built);
+            return built;
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private record Snapshot(long version, Participant[] participants) {}
+
+    // 배열 복사만 읽기 락 안에서 하고, 정렬은 락 밖에서 한다
+    private Snapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            Participant[] arr = new Participant[byId.size()];
+            int[] i = {0};
+            byId.forEachValue(p -> arr[i[0]++] = p);
+            return new Snapshot(version, arr);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 만드는 동안 명단이 바뀌었으면 버린다 (이번 조회에만 쓰고 다음 조회 때 다시 만든다)
+    private void publish(long snapshotVersion, Runnable swap) {
+        lock.writeLock().lock();
+        try {
+            if (version == snapshotVersion) swap.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출
+    private void replace(Participant p) {
+        Participant old = byId.put(p.id(), p);
+        if (old != null) {
+            countDistrict(old.district(), -1);
+            entryBytes -= participantBytes(old);
+        }
+        countDistrict(p.district(), 1);
+        entryBytes += participantBytes(p);
+    }
+
+    // 세례명/구역은 canonical 쪽에서 센다
+    private static long participantBytes(Participant p) {
+        return PARTICIPANT_BYTES
+                + stringBytes(p.name())
+                + stringBytes(p.phone())
+                + stringBytes(p.phoneHash())
+                + stringBytes(p.phoneLast4())
+                + stringBytes(p.createdAt());
+    }
+
+    private void countDistrict(String district, int delta) {
+        districtSizes.merge(district, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    // 쓰기 락 안에서 호출
+    private void invalidate() {
+        sortedByName = null;
+        searchIndex = null;
+        version++;
+    }
+
+    private Participant compact(Participant p) {
+        return new Participant(
+                p.id(),
+                p.name(),
+                p.phone(),
+                p.phoneHash(),
+                p.phoneLast4(),
+                intern(p.baptismalName()),
+                intern(p.district()),
+                p.createdAt()
+        );
+    }
+
+    // 쓰기 락 안에서 호출
+    private String intern(String s) {
+        if (s == null) return "";
+        String c = canonical.putIfAbsent(s, s);
+        if (c != null) return c;
+        entryBytes += stringBytes(s);
+        return s;
+    }
+
+    private static long stringBytes(String s) {
+        if (s == null) return 0;
+        boolean latin1 = true;
+        for (int i = 0; i < s.length() && latin1; i++) {
+            if (s.charAt(i) > 0xFF) latin1 = false;
+        }
+        long array = 16L + (latin1 ? s.length() : 2L * s.length());
+        return 24 + ((array + 7) & ~7L);
+    }
+}
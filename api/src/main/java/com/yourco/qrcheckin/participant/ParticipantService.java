@@ -3,78 +3,187 @@ package com.yourco.qrcheckin.participant;
 import com.yourco.qrcheckin.common.util.HashingService;
 import com.yourco.qrcheckin.common.util.PhoneNormalizer;
 import com.yourco.qrcheckin.infra.excel.ParticipantExcelImporter;
+import com.yourco.qrcheckin.participant.model.Participant;
 import com.yourco.qrcheckin.participant.model.ParticipantCreateRequest;
 import com.yourco.qrcheckin.participant.model.ParticipantImportResult;
+import com.yourco.qrcheckin.participant.model.ParticipantImportTimings;
 import com.yourco.qrcheckin.participant.model.ParticipantSearchItem;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 @Service
 public class ParticipantService {
 
+    public static final String UNASSIGNED_DISTRICT = "미지정";
+
     private final ParticipantRepository repo;
+    private final ParticipantRoster roster;
     private final ParticipantExcelImporter importer;
     private final HashingService hashing;
+    private final TransactionTemplate tx;
+
+    @Value("${app.participant.import.chunk-size:1000}")
+    private int chunkSize;
 
-    public ParticipantService(ParticipantRepository repo, ParticipantExcelImporter importer, HashingService hashing) {
+    public ParticipantService(ParticipantRepository repo, ParticipantRoster roster,
+                              ParticipantExcelImporter importer, HashingService hashing,
+                              PlatformTransactionManager txManager) {
         this.repo = repo;
+        this.roster = roster;
         this.importer = importer;
         this.hashing = hashing;
+        this.tx = new TransactionTemplate(txManager);
     }
 
-    @Transactional
+    /**
+     * 명단 엑셀 가져오기.
+     * - 기존 (이름, 전화 해시)를 한 번에 읽어 Set으로 중복 확인 (행마다 SELECT 하지 않음)
+     * - chunk-size 행씩 모아 전화번호 해시는 ForkJoinPool에서 병렬로, insert는 batchUpdate로
+     * 같은 파일 안의 중복도 같은 Set으로 걸러진다.
+     * 업로드를 임시 파일로 받는 동안은 트랜잭션을 열지 않는다 (writer 커넥션은 읽고 넣는 동안만 잡는다).
+     */
     public ParticipantImportResult importExcel(InputStream in, boolean replaceAll) {
-        var rows = importer.read(in);
-
-        if (replaceAll) repo.deleteAll();
-
-        int inserted = 0;
-        int skipped = 0;
+        long started = System.nanoTime();
+        try (ParticipantExcelImporter.Upload upload = importer.spool(in)) {
+            return tx.execute(status -> importRows(upload, replaceAll, started));
+        }
+    }
 
-        // 동일 파일 내 중복 방지(이름+폰 정규화)
-        Set<String> seen = new HashSet<>();
+    private ParticipantImportResult importRows(ParticipantExcelImporter.Upload upload, boolean replaceAll, long started) {
+        long preloadStarted = System.nanoTime();
+        Set<String> known = new HashSet<>();
+        if (replaceAll) {
+            repo.deleteAll();
+        } else {
+            repo.forEachNameAndPhoneHash((name, phoneHash) -> known.add(name + "|" + phoneHash));
+        }
+        long preloadNanos = System.nanoTime() - preloadStarted;
 
-        for (var r : rows) {
+        ImportChunk chunk = new ImportChunk(known);
+        long streamStarted = System.nanoTime();
+        // 행을 모아두지 않고 chunk 단위로 처리
+        int total = importer.stream(upload, r -> {
             String name = r.name().trim();
             String phoneNorm = PhoneNormalizer.normalize(r.phone());
             if (name.isBlank() || phoneNorm.isBlank()) {
-                skipped++;
-                continue;
+                chunk.skipped++;
+                return;
             }
+            chunk.add(name, phoneNorm, r.baptismalName(), r.district());
+        });
+        chunk.flush();
+        long parseNanos = System.nanoTime() - streamStarted - chunk.hashNanos - chunk.insertNanos;
+
+        ParticipantImportTimings timings = new ParticipantImportTimings(
+                millis(preloadNanos),
+                millis(parseNanos),
+                millis(chunk.hashNanos),
+                millis(chunk.insertNanos),
+                millis(System.nanoTime() - started)
+        );
+        return new ParticipantImportResult(total, chunk.inserted, chunk.skipped, timings);
+    }
 
-            String key = name + "|" + phoneNorm;
-            if (!seen.add(key)) { // 파일 내 중복
-                skipped++;
-                continue;
-            }
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record PendingRow(String name, String phone, String baptismalName, String district) {}
 
-            String phoneHash = hashing.sha256(phoneNorm);
-            String last4 = PhoneNormalizer.last4(phoneNorm);
+    /** 가져오기 한 번의 상태. 요청 스레드 하나에서만 쓴다. */
+    private final class ImportChunk {
+        private final Set<String> known;
+        private final List<PendingRow> pending = new ArrayList<>(chunkSize);
+
+        int inserted;
+        int skipped;
+        long hashNanos;
+        long insertNanos;
+
+        ImportChunk(Set<String> known) {
+            this.known = known;
+        }
 
-            // 이미 DB에 같은 사람이 있으면 스킵
-            if (repo.findByNameAndPhoneHash(name, phoneHash).isPresent()) {
-                skipped++;
-                continue;
+        void add(String name, String phoneNorm, String baptismalName, String district) {
+            pending.add(new PendingRow(name, phoneNorm, baptismalName, district));
+            if (pending.size() >= chunkSize) flush();
+        }
+
+        void flush() {
+            if (pending.isEmpty()) return;
+
+            long t0 = System.nanoTime();
+            String[] hashes = new String[pending.size()];
+            // HashingService는 호출마다 MessageDigest를 복제해 쓰므로 병렬 호출해도 된다
+            IntStream.range(0, hashes.length).parallel()
+                    .forEach(i -> hashes[i] = hashing.sha256(pending.get(i).phone()));
+            long t1 = System.nanoTime();
+
+            String now = OffsetDateTime.now().toString();
+            List<Participant> rows = new ArrayList<>(pending.size());
+            for (int i = 0; i < hashes.length; i++) {
+                PendingRow r = pending.get(i);
+                // DB에 이미 있거나 파일 안에서 앞서 나온 사람이면 스킵
+                if (!known.add(r.name() + "|" + hashes[i])) {
+                    skipped++;
+                    continue;
+                }
+                rows.add(new Participant(0L, r.name(), r.phone(), hashes[i], PhoneNormalizer.last4(r.phone()),
+                        r.baptismalName(), r.district(), now));
             }
+            inserted += repo.insertAll(rows, chunkSize);
+            long t2 = System.nanoTime();
 
-            repo.insert(name, phoneNorm, phoneHash, last4, r.baptismalName(), r.district());
-            inserted++;
+            hashNanos += t1 - t0;
+            insertNanos += t2 - t1;
+            pending.clear();
         }
+    }
 
-        return new ParticipantImportResult(rows.size(), inserted, skipped);
+    public Map<String, Object> getRosterStats() {
+        return roster.stats();
     }
 
     public int countParticipants() {
         return repo.countAll();
     }
 
+    public long getRosterVersion() {
+        return roster.version();
+    }
+
+    /** 구역 -> 인원 (메모리 명단에서 바로 센다, 구역이 비어 있으면 '미지정') */
+    public Map<String, Integer> countByDistrict() {
+        Map<String, Integer> result = new TreeMap<>();
+        roster.countByDistrict().forEach((district, n) -> result.merge(districtLabel(district), n, Integer::sum));
+        return result;
+    }
+
+    public static String districtLabel(String district) {
+        return district == null || district.isEmpty() ? UNASSIGNED_DISTRICT : district;
+    }
+
+    /** DB를 직접 고친 뒤 메모리 명단을 다시 읽는다 */
+    public void reloadRoster() {
+        repo.loadRoster();
+    }
+
     public List<ParticipantSearchItem> findAllParticipants() {
-        return repo.findAll().stream()
+        return roster.findAllSortedByName().stream()
                 .map(p -> new ParticipantSearchItem(p.id(), p.name(), p.phone(), p.phoneLast4(), p.baptismalName(), p.district()))
                 .toList();
     }
@@ -102,13 +211,9 @@ public class ParticipantService {
         String baptismalName = req.baptismalName() != null ? req.baptismalName().trim() : "";
         String district = req.district() != null ? req.district().trim() : "";
 
-        repo.insert(name, phoneNorm, phoneHash, last4, baptismalName, district);
-        
-        // 방금 추가된 회원 조회해서 반환
-        var participant = repo.findByNameAndPhoneHash(name, phoneHash)
-                .orElseThrow(() -> new RuntimeException("회원 등록 실패"));
-        
-        return new ParticipantSearchItem(participant.id(), participant.name(), participant.phone(), participant.phoneLast4(), participant.baptismalName(), participant.district());
+        long id = repo.insert(name, phoneNorm, phoneHash, last4, baptismalName, district);
+
+        return new ParticipantSearchItem(id, name, phoneNorm, last4, baptismalName, district);
     }
 
     @Transactional
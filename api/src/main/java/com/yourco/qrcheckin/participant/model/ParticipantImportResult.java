@@ -1,3 +1,3 @@
 package com.yourco.qrcheckin.participant.model;
 
-public record ParticipantImportResult(int totalRows, int inserted, int skipped) {}
+public record ParticipantImportResult(int totalRows, int inserted, int skipped, ParticipantImportTimings timings) {}
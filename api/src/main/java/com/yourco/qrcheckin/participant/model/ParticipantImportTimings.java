@@ -0,0 +1,11 @@
+package com.yourco.qrcheckin.participant.model;
+
+/**
+ * 명단 가져오기 단계별 소요 시간 (ms).
+ * parse는 엑셀을 읽는 데 쓴 시간만 (해시/insert 시간 제외).
+ */
+public record ParticipantImportTimings(long preloadMillis,
+                                       long parseMillis,
+                                       long hashMillis,
+                                       long insertMillis,
+                                       long totalMillis) {}
@@ -1,12 +1,24 @@
 package com.yourco.qrcheckin.session;
 
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.yourco.qrcheckin.common.util.ETags;
+import com.yourco.qrcheckin.infra.qr.QrCodeRenderer;
+import com.yourco.qrcheckin.infra.qr.QrImageFormat;
 import com.yourco.qrcheckin.session.model.SessionCreateRequest;
+import com.yourco.qrcheckin.session.model.SessionQrImage;
 import com.yourco.qrcheckin.session.model.SessionResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/admin/sessions")
@@ -19,8 +31,11 @@ public class SessionController {
     }
 
     @GetMapping
-    public List<SessionResponse> list() {
-        return service.getAllSessions();
+    public ResponseEntity<List<SessionResponse>> list(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = ETags.of("sessions", service.getSessionsVersion());
+        return ETags.respond(ifNoneMatch, etag, service::getAllSessions);
     }
 
     @PostMapping
@@ -28,6 +43,12 @@ public class SessionController {
         return service.createSession(req);
     }
 
+    // 세션 캐시 상태 (hit/miss)
+    @GetMapping("/cache/stats")
+    public Map<String, Object> cacheStats() {
+        return service.getCacheStats();
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SessionResponse> get(@PathVariable String id) {
         return service.getSession(id)
@@ -40,6 +61,30 @@ public class SessionController {
         return service.getSessionWithToken(id);
     }
 
+    // QR 이미지 (포스터 인쇄/화면 표시). size=픽셀, ecc=L/M/Q/H, v=shortCode 를 주면 브라우저가 오래 캐시한다
+    @GetMapping("/{id}/qr.png")
+    public ResponseEntity<byte[]> qrPng(@PathVariable String id,
+                                        @RequestParam(defaultValue = "400") int size,
+                                        @RequestParam(defaultValue = "M") String ecc,
+                                        @RequestParam(required = false) String v,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return qrImage(id, QrImageFormat.PNG, size, ecc, v, ifNoneMatch);
+    }
+
+    @GetMapping("/{id}/qr.svg")
+    public ResponseEntity<byte[]> qrSvg(@PathVariable String id,
+                                        @RequestParam(defaultValue = "400") int size,
+                                        @RequestParam(defaultValue = "M") String ecc,
+                                        @RequestParam(required = false) String v,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return qrImage(id, QrImageFormat.SVG, size, ecc, v, ifNoneMatch);
+    }
+
+    @GetMapping("/qr/cache/stats")
+    public Map<String, Object> qrCacheStats() {
+        return service.getQrCacheStats();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable String id) {
         service.deleteSession(id);
@@ -51,5 +96,31 @@ public class SessionController {
         service.closeSession(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    private ResponseEntity<byte[]> qrImage(String id, QrImageFormat format, int size, String ecc,
+                                           String version, String ifNoneMatch) {
+        ErrorCorrectionLevel level;
+        try {
+            QrCodeRenderer.checkSize(size);
+            level = QrCodeRenderer.parseErrorCorrection(ecc);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        SessionQrImage image = service.getSessionQr(id, format, size, level)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "세션을 찾을 수 없습니다: " + id));
+
+        // 세션 ID는 삭제 후 같은 날짜/제목으로 다시 만들면 재사용되므로, shortCode 로 버전이 고정된 URL만 오래 캐시
+        CacheControl cacheControl = image.shortCode().equals(version)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                : CacheControl.noCache();
+        if (ETags.matches(ifNoneMatch, image.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(image.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .eTag(image.etag())
+                .cacheControl(cacheControl)
+                .body(image.bytes());
+    }
+}
@@ -1,6 +1,7 @@
 package com.yourco.qrcheckin.session;
 
-import com.yourco.qrcheckin.session.model.SessionResponse;
+import com.yourco.qrcheckin.common.util.ETags;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,9 +16,16 @@ public class SessionPublicController {
     }
 
     @GetMapping("/code/{shortCode}")
-    public ResponseEntity<SessionPublicInfo> getByShortCode(@PathVariable String shortCode) {
+    public ResponseEntity<SessionPublicInfo> getByShortCode(
+            @PathVariable String shortCode,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // 세션이 바뀌지 않았으면 캐시 조회 없이 304
+        String etag = ETags.of("session", service.getSessionsVersion());
+        if (ETags.matches(ifNoneMatch, etag)) return ETags.notModified(etag);
+
         return service.getSessionByShortCode(shortCode)
-                .map(s -> ResponseEntity.ok(new SessionPublicInfo(
+                .map(s -> ETags.ok(etag).body(new SessionPublicInfo(
                         s.id(),
                         s.title(),
                         s.sessionDate(),
@@ -0,0 +1,177 @@
+package com.yourco.qrcheckin.session;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.yourco.qrcheckin.infra.qr.QrCodeRenderer;
+import com.yourco.qrcheckin.infra.qr.QrImageFormat;
+import com.yourco.qrcheckin.session.model.SessionQrImage;
+import com.yourco.qrcheckin.session.model.SessionResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 세션 QR 이미지 캐시 (LRU, 전체 바이트 수로 제한).
+ * 키는 (세션 ID, 형식, 크기, 오류 정정 단계). 포스터를 여러 장 뽑아도 같은 이미지는 한 번만 그리고,
+ * 같은 이미지를 동시에 요청하면 렌더링 한 번으로 합친다.
+ * 캐시에 있으면 DB도 읽지 않는다. 세션을 삭제하면 그 세션의 이미지를 모두 지운다.
+ */
+@Component
+public class SessionQrImages {
+
+    private final QrCodeRenderer renderer;
+
+    @Value("${app.session-qr.cache-max-bytes:16777216}")
+    private long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // access-order: 가장 오래 안 쓴 것부터 내보낸다
+    private final LinkedHashMap<Key, CompletableFuture<SessionQrImage>> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private long cachedBytes;  // lock 안에서만
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SessionQrImages(QrCodeRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    private record Key(String sessionId, QrImageFormat format, int size, ErrorCorrectionLevel ecc) {}
+
+    /**
+     * @param session 캐시에 없을 때만 호출된다
+     */
+    public Optional<SessionQrImage> get(String sessionId, QrImageFormat format, int size, ErrorCorrectionLevel ecc,
+                                        Supplier<Optional<SessionResponse>> session) {
+        Key key = new Key(sessionId, format, size, ecc);
+        CompletableFuture<SessionQrImage> mine = new CompletableFuture<>();
+        CompletableFuture<SessionQrImage> existing;
+
+        lock.lock();
+        try {
+            existing = cache.putIfAbsent(key, mine);
+        } finally {
+            lock.unlock();
+        }
+        if (existing != null) {
+            hits.increment();
+            // 없는 세션이면 null 로 끝난다
+            return Optional.ofNullable(await(existing));
+        }
+
+        misses.increment();
+        Optional<SessionResponse> found;
+        try {
+            found = session.get();
+            if (found.isEmpty()) {
+                remove(key, mine);
+                mine.complete(null);
+                return Optional.empty();
+            }
+            SessionResponse s = found.get();
+            renders.increment();
+            byte[] bytes = renderer.render(s.qrUrl(), format, size, ecc);
+            String etag = "\"qr-" + s.shortCode() + "-" + size + ecc + "-" + format.name().toLowerCase() + "\"";
+            SessionQrImage image = new SessionQrImage(bytes, format.contentType(), s.shortCode(), etag);
+            added(key, mine, image);
+            return Optional.of(image);
+        } catch (RuntimeException e) {
+            // 실패한 결과는 캐시하지 않음
+            remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void evict(String sessionId) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Key, CompletableFuture<SessionQrImage>>> it = cache.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Key, CompletableFuture<SessionQrImage>> e = it.next();
+                if (e.getKey().sessionId().equals(sessionId)) {
+                    cachedBytes -= sizeOf(e.getValue());
+                    it.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        lock.lock();
+        try {
+            long h = hits.sum();
+            long m = misses.sum();
+            return Map.of(
+                "entries", cache.size(),
+                "cachedBytes", cachedBytes,
+                "maxBytes", maxBytes,
+                "hits", h,
+                "misses", m,
+                "renders", renders.sum(),
+                "evictions", evictions.sum(),
+                "hitRate", h + m == 0 ? 0.0 : (double) h / (h + m)
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 완료와 바이트 계산을 같은 lock 안에서 해야 evict 와 어긋나지 않는다
+    private void added(Key key, CompletableFuture<SessionQrImage> future, SessionQrImage image) {
+        lock.lock();
+        try {
+            future.complete(image);
+            // 렌더링 중에 세션이 삭제됐으면 이미 빠져 있다
+            if (cache.get(key) != future) return;
+            cachedBytes += image.bytes().length;
+            Iterator<Map.Entry<Key, CompletableFuture<SessionQrImage>>> it = cache.entrySet().iterator();
+            while (cachedBytes > maxBytes && it.hasNext()) {
+                Map.Entry<Key, CompletableFuture<SessionQrImage>> e = it.next();
+                if (!e.getValue().isDone()) continue;  // 렌더링 중인 것은 그대로
+                cachedBytes -= sizeOf(e.getValue());
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Key key, CompletableFuture<SessionQrImage> future) {
+        lock.lock();
+        try {
+            cache.remove(key, future);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 캐시에 남아 있는 완료된 이미지만 cachedBytes 에 들어가 있다
+    private static long sizeOf(CompletableFuture<SessionQrImage> future) {
+        if (!future.isDone() || future.isCompletedExceptionally()) return 0;
+        SessionQrImage image = future.join();
+        return image == null ? 0 : image.bytes().length;
+    }
+
+    private static SessionQrImage await(CompletableFuture<SessionQrImage> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.yourco.qrcheckin.session;
+
+import com.yourco.qrcheckin.session.model.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * shortCode -> 세션 캐시.
+ * QR이 화면에 뜨면 수백 명이 같은 코드를 동시에 조회하므로,
+ * 같은 코드의 동시 miss는 한 번의 쿼리로 합친다 (single-flight).
+ * 존재하지 않는 코드도 짧게 캐시한다 (negative caching).
+ * 엔트리가 max-entries 를 넘으면 negative 엔트리부터, 그래도 넘치면 오래 안 쓴 엔트리부터 정리한다.
+ * 세션이 생성/종료/삭제될 때마다 무효화되므로 세션 목록 ETag용 버전도 여기서 센다.
+ */
+@Component
+public class SessionRegistry {
+
+    private final SessionRepository repo;
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final AtomicLong version = new AtomicLong(1);
+
+    @Value("${app.session-cache.negative-ttl-ms:30000}")
+    private long negativeTtlMs;
+
+    @Value("${app.session-cache.max-entries:10000}")
+    private int maxEntries;
+
+    public SessionRegistry(SessionRepository repo) {
+        this.repo = repo;
+    }
+
+    private static final class Entry {
+        final CompletableFuture<Optional<Session>> future = new CompletableFuture<>();
+        final long loadedAt;
+        volatile long lastAccess;
+
+        Entry(long now) {
+            this.loadedAt = now;
+            this.lastAccess = now;
+        }
+
+        boolean isNegative() {
+            return future.isDone() && !future.isCompletedExceptionally() && future.join().isEmpty();
+        }
+
+        boolean isExpired(long now, long negativeTtlMs) {
+            return isNegative() && now - loadedAt > negativeTtlMs;
+        }
+    }
+
+    public Optional<Session> findByShortCode(String shortCode) {
+        String key = shortCode.toUpperCase();
+        long now = System.currentTimeMillis();
+
+        Entry entry = cache.get(key);
+        if (entry != null && !entry.isExpired(now, negativeTtlMs)) {
+            hits.increment();
+            entry.lastAccess = now;
+            return await(entry.future);
+        }
+
+        misses.increment();
+        Entry mine = new Entry(now);
+        Entry existing = entry == null ? cache.putIfAbsent(key, mine)
+                : (cache.replace(key, entry, mine) ? null : cache.get(key));
+
+        if (existing != null) {
+            // 다른 요청이 이미 로딩 중 (또는 방금 로딩 완료)
+            return await(existing.future);
+        }
+
+        evictIfFull();
+        try {
+            loads.increment();
+            Optional<Session> loaded = repo.findByShortCode(key);
+            mine.future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            // 실패한 결과는 캐시하지 않음
+            cache.remove(key, mine);
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate(String shortCode) {
+        if (shortCode != null) {
+            cache.remove(shortCode.toUpperCase());
+        }
+        version.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+        version.incrementAndGet();
+    }
+
+    /** 세션 데이터 버전. DB에 쓴 뒤 invalidate 하므로, 읽는 쪽은 데이터보다 버전을 먼저 읽는다. */
+    public long version() {
+        return version.get();
+    }
+
+    public Map<String, Object> stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        return Map.of(
+            "entries", cache.size(),
+            "hits", h,
+            "misses", m,
+            "loads", loads.sum(),
+            "hitRate", h + m == 0 ? 0.0 : (double) h / (h + m)
+        );
+    }
+
+    private void evictIfFull() {
+        if (cache.size() <= maxEntries) return;
+        // 존재하지 않는 코드가 대량으로 조회되는 경우를 대비해 negative 엔트리부터 정리
+        cache.values().removeIf(Entry::isNegative);
+
+        // 그래도 넘치면 오래 안 쓴 엔트리부터. 매 miss 마다 정렬하지 않도록 10% 여유를 만든다 (로딩 중인 엔트리는 제외)
+        int excess = cache.size() - maxEntries * 9 / 10;
+        if (excess <= 0) return;
+        cache.entrySet().stream()
+                .filter(e -> e.getValue().future.isDone())
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .limit(excess)
+                .forEach(e -> cache.remove(e.getKey(), e.getValue()));
+    }
+
+    private static Optional<Session> await(CompletableFuture<Optional<Session>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+}
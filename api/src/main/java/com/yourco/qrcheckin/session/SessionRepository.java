@@ -4,11 +4,13 @@ import com.yourco.qrcheckin.session.model.Session;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public class SessionRepository {
 
     private final JdbcTemplate jdbc;
@@ -30,6 +32,7 @@ public class SessionRepository {
                     rs.getString("created_at")
             );
 
+    @Transactional
     public void insert(Session session) {
         jdbc.update(
                 "INSERT INTO sessions(id, title, session_date, starts_at, ends_at, token_hash, short_code, status, created_at) VALUES(?,?,?,?,?,?,?,?,?)",
@@ -87,10 +90,12 @@ public class SessionRepository {
         );
     }
 
+    @Transactional
     public void updateStatus(String id, String status) {
         jdbc.update("UPDATE sessions SET status = ? WHERE id = ?", status, id);
     }
 
+    @Transactional
     public void delete(String id) {
         jdbc.update("DELETE FROM sessions WHERE id = ?", id);
     }
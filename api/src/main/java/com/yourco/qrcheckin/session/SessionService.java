@@ -1,8 +1,11 @@
 package com.yourco.qrcheckin.session;
 
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
 import com.yourco.qrcheckin.common.util.HashingService;
+import com.yourco.qrcheckin.infra.qr.QrImageFormat;
 import com.yourco.qrcheckin.session.model.Session;
 import com.yourco.qrcheckin.session.model.SessionCreateRequest;
+import com.yourco.qrcheckin.session.model.SessionQrImage;
 import com.yourco.qrcheckin.session.model.SessionResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -10,12 +13,15 @@ import org.springframework.stereotype.Service;
 import java.security.SecureRandom;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class SessionService {
 
     private final SessionRepository repo;
+    private final SessionRegistry registry;
+    private final SessionQrImages qrImages;
     private final HashingService hashing;
     private final SecureRandom random = new SecureRandom();
     
@@ -25,8 +31,11 @@ public class SessionService {
     @Value("${app.frontend.checkin-base-url:http://localhost:5173}")
     private String checkinBaseUrl;
 
-    public SessionService(SessionRepository repo, HashingService hashing) {
+    public SessionService(SessionRepository repo, SessionRegistry registry, SessionQrImages qrImages,
+                          HashingService hashing) {
         this.repo = repo;
+        this.registry = registry;
+        this.qrImages = qrImages;
         this.hashing = hashing;
     }
 
@@ -63,6 +72,8 @@ public class SessionService {
         );
 
         repo.insert(session);
+        // 생성 전에 조회되어 negative 캐시된 코드일 수 있음
+        registry.invalidate(shortCode);
 
         return toResponse(session);
     }
@@ -78,7 +89,7 @@ public class SessionService {
     }
 
     public Optional<SessionResponse> getSessionByShortCode(String shortCode) {
-        return repo.findByShortCode(shortCode.toUpperCase()).map(this::toResponse);
+        return registry.findByShortCode(shortCode).map(this::toResponse);
     }
 
     public SessionResponse getSessionWithToken(String id) {
@@ -87,18 +98,38 @@ public class SessionService {
         return toResponse(session);
     }
 
+    public Optional<SessionQrImage> getSessionQr(String id, QrImageFormat format, int size, ErrorCorrectionLevel ecc) {
+        return qrImages.get(id, format, size, ecc, () -> repo.findById(id).map(this::toResponse));
+    }
+
     public boolean validateShortCode(String shortCode) {
-        return repo.findByShortCode(shortCode.toUpperCase())
+        return registry.findByShortCode(shortCode)
                 .map(s -> "ACTIVE".equals(s.status()))
                 .orElse(false);
     }
 
     public void deleteSession(String id) {
+        var session = repo.findById(id);
         repo.delete(id);
+        session.ifPresent(s -> registry.invalidate(s.shortCode()));
+        qrImages.evict(id);
     }
 
     public void closeSession(String id) {
         repo.updateStatus(id, "CLOSED");
+        repo.findById(id).ifPresent(s -> registry.invalidate(s.shortCode()));
+    }
+
+    public long getSessionsVersion() {
+        return registry.version();
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return registry.stats();
+    }
+
+    public Map<String, Object> getQrCacheStats() {
+        return qrImages.stats();
     }
 
     private SessionResponse toResponse(Session session) {
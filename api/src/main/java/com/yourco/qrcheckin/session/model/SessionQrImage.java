@@ -0,0 +1,7 @@
+package com.yourco.qrcheckin.session.model;
+
+/**
+ * 렌더링된 세션 QR 이미지.
+ * shortCode 는 ?v= 파라미터와 비교해 오래 캐시해도 되는지 판단할 때 쓴다.
+ */
+public record SessionQrImage(byte[] bytes, String contentType, String shortCode, String etag) {}
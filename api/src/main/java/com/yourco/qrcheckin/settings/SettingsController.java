@@ -1,33 +1,63 @@
 package com.yourco.qrcheckin.settings;
 
+import com.yourco.qrcheckin.common.util.ETags;
+import com.yourco.qrcheckin.settings.model.SettingsSnapshot;
+import com.yourco.qrcheckin.upload.UploadStorage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api")
 public class SettingsController {
 
+    // 응답마다 현재 설정 버전을 헤더로 내려줌
+    static final String VERSION_HEADER = "X-Settings-Version";
+
     private final SettingsRepository repo;
+    private final SettingsStore store;
+    private final UploadStorage uploads;
 
-    public SettingsController(SettingsRepository repo) {
+    public SettingsController(SettingsRepository repo, SettingsStore store, UploadStorage uploads) {
         this.repo = repo;
+        this.store = store;
+        this.uploads = uploads;
     }
 
     // 공개 API - 성당 이름 조회
     @GetMapping("/settings/church-name")
-    public Map<String, String> getChurchName() {
-        String name = repo.get("church_name").orElse("성당");
-        return Map.of("churchName", name);
+    public ResponseEntity<Map<String, String>> getChurchName(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        SettingsSnapshot settings = store.current();
+        return conditional(settings, ifNoneMatch, () -> Map.of("churchName", settings.churchName()));
     }
 
     // 공개 API - 간편 체크인 모드 조회
     @GetMapping("/settings/simple-checkin-mode")
-    public Map<String, Object> getSimpleCheckinMode() {
-        boolean enabled = repo.get("simple_checkin_mode")
-                .map("true"::equals)
-                .orElse(false);
-        return Map.of("enabled", enabled);
+    public ResponseEntity<Map<String, Object>> getSimpleCheckinMode(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        SettingsSnapshot settings = store.current();
+        return conditional(settings, ifNoneMatch, () -> Map.of("enabled", settings.simpleCheckinMode()));
+    }
+
+    // 공개 API - 로고 URL 과 너비별 축소본 URL (화면 크기에 맞는 것만 받도록, 로고가 없으면 url 이 빈 문자열)
+    @GetMapping("/settings/logo")
+    public ResponseEntity<Map<String, Object>> getLogo(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        SettingsSnapshot settings = store.current();
+        return conditional(settings, ifNoneMatch, () -> {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("url", settings.logoUrl());
+            body.put("variants", uploads.derivativeUrls(settings.logoUrl()));
+            return body;
+        });
     }
 
     // 관리자 API - 모든 설정 조회
@@ -38,7 +68,7 @@ public class SettingsController {
 
     // 관리자 API - 설정 변경
     @PutMapping("/admin/settings/{key}")
-    public Map<String, String> updateSetting(
+    public ResponseEntity<Map<String, String>> updateSetting(
             @PathVariable String key,
             @RequestBody Map<String, String> body
     ) {
@@ -52,8 +82,22 @@ public class SettingsController {
             throw new IllegalArgumentException("Unknown setting key: " + key);
         }
         
-        repo.set(key, value);
-        return Map.of("key", key, "value", value);
+        SettingsSnapshot updated = store.update(key, value);
+        return withVersion(updated, Map.of("key", key, "value", value));
+    }
+
+    // 스냅샷 버전이 곧 ETag. 설정이 바뀌지 않았으면 304
+    private static <T> ResponseEntity<T> conditional(SettingsSnapshot settings, String ifNoneMatch, Supplier<T> body) {
+        String etag = ETags.of("settings", settings.version());
+        if (ETags.matches(ifNoneMatch, etag)) return ETags.notModified(etag);
+        return ETags.ok(etag)
+                .header(VERSION_HEADER, Long.toString(settings.version()))
+                .body(body.get());
     }
-}
 
+    private static <T> ResponseEntity<T> withVersion(SettingsSnapshot settings, T body) {
+        return ResponseEntity.ok()
+                .header(VERSION_HEADER, Long.toString(settings.version()))
+                .body(body);
+    }
+}
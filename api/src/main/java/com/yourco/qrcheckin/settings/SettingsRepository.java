@@ -2,12 +2,14 @@ package com.yourco.qrcheckin.settings;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public class SettingsRepository {
 
     private final JdbcTemplate jdbc;
@@ -25,6 +27,7 @@ public class SettingsRepository {
         return list.stream().findFirst();
     }
 
+    @Transactional
     public void set(String key, String value) {
         jdbc.update(
                 "INSERT OR REPLACE INTO settings (key, value) VALUES (?, ?)",
@@ -0,0 +1,47 @@
+package com.yourco.qrcheckin.settings;
+
+import com.yourco.qrcheckin.settings.model.SettingsSnapshot;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 설정값을 메모리에 들고 있는 저장소.
+ * 체크인 경로에서는 current()로 volatile 필드 하나만 읽는다.
+ * 변경은 DB에 쓴 뒤 새 스냅샷으로 통째로 교체한다.
+ */
+@Component
+public class SettingsStore {
+
+    private final SettingsRepository repo;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile SettingsSnapshot current = SettingsSnapshot.of(0, Map.of());
+
+    public SettingsStore(SettingsRepository repo) {
+        this.repo = repo;
+    }
+
+    @PostConstruct
+    void load() {
+        current = SettingsSnapshot.of(1, repo.getAll());
+    }
+
+    public SettingsSnapshot current() {
+        return current;
+    }
+
+    public SettingsSnapshot update(String key, String value) {
+        writeLock.lock();
+        try {
+            repo.set(key, value);
+            SettingsSnapshot next = SettingsSnapshot.of(current.version() + 1, repo.getAll());
+            current = next;
+            return next;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.yourco.qrcheckin.settings.model;
+
+import java.util.Map;
+
+/**
+ * 설정값 스냅샷 (불변). 설정이 바뀔 때마다 version이 1씩 올라간 새 인스턴스로 교체된다.
+ */
+public record SettingsSnapshot(
+    long version,
+    String churchName,
+    boolean simpleCheckinMode,
+    String logoUrl
+) {
+
+    public static SettingsSnapshot of(long version, Map<String, String> values) {
+        return new SettingsSnapshot(
+            version,
+            values.getOrDefault("church_name", "성당"),
+            "true".equals(values.get("simple_checkin_mode")),
+            values.getOrDefault("logo_url", "")
+        );
+    }
+}
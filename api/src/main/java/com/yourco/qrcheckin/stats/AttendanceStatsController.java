@@ -0,0 +1,40 @@
+package com.yourco.qrcheckin.stats;
+
+import com.yourco.qrcheckin.stats.model.SessionAttendanceRate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+public class AttendanceStatsController {
+
+    private final AttendanceStatsService service;
+
+    public AttendanceStatsController(AttendanceStatsService service) {
+        this.service = service;
+    }
+
+    // 세션 하나의 출석률 (구역별 포함)
+    @GetMapping(params = "sessionId")
+    public SessionAttendanceRate session(@RequestParam String sessionId) {
+        return service.getSessionRate(sessionId);
+    }
+
+    // 출석 기록이 있는 세션 전체의 출석률
+    @GetMapping
+    public List<SessionAttendanceRate> sessions() {
+        return service.getAllSessionRates();
+    }
+
+    // DB를 직접 고친 뒤 집계 다시 만들기
+    @PostMapping("/rebuild")
+    public Map<String, Object> rebuild() {
+        return service.rebuild();
+    }
+}
@@ -0,0 +1,96 @@
+package com.yourco.qrcheckin.stats;
+
+import com.yourco.qrcheckin.attendance.AttendanceCountsRepository;
+import com.yourco.qrcheckin.participant.ParticipantService;
+import com.yourco.qrcheckin.stats.model.DistrictAttendanceRate;
+import com.yourco.qrcheckin.stats.model.SessionAttendanceRate;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 출석률 통계.
+ * 출석 인원은 attendance_counts 집계 행에서, 명단 인원은 메모리 명단의 구역별 인원에서 읽는다.
+ * 출석 기록 수와 상관없이 세션당 구역 수만큼만 읽는다.
+ */
+@Service
+public class AttendanceStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceStatsService.class);
+
+    private final AttendanceCountsRepository counts;
+    private final ParticipantService participants;
+
+    public AttendanceStatsService(AttendanceCountsRepository counts, ParticipantService participants) {
+        this.counts = counts;
+        this.participants = participants;
+    }
+
+    // 집계 테이블이 새로 생긴 경우(업그레이드 직후) 기존 출석 기록으로 한 번 채운다
+    @PostConstruct
+    void backfill() {
+        if (counts.isEmpty() && counts.hasAttendances()) {
+            int rows = counts.rebuild();
+            log.info("출석 집계 테이블 초기화 ({}행)", rows);
+        }
+    }
+
+    public SessionAttendanceRate getSessionRate(String sessionId) {
+        Map<String, Integer> attendedByDistrict = new TreeMap<>();
+        counts.countByDistrict(sessionId).forEach((district, n) ->
+                attendedByDistrict.merge(ParticipantService.districtLabel(district), n, Integer::sum));
+        Map<String, Integer> rosterByDistrict = participants.countByDistrict();
+
+        // 명단에는 있지만 출석이 없는 구역, 출석은 있지만 지금 명단에는 없는 구역 모두 보여준다
+        Map<String, Integer> districts = new TreeMap<>(rosterByDistrict);
+        attendedByDistrict.keySet().forEach(d -> districts.putIfAbsent(d, 0));
+
+        List<DistrictAttendanceRate> rows = new ArrayList<>(districts.size());
+        int attended = 0;
+        int rosterSize = 0;
+        for (Map.Entry<String, Integer> e : districts.entrySet()) {
+            int a = attendedByDistrict.getOrDefault(e.getKey(), 0);
+            int r = e.getValue();
+            rows.add(new DistrictAttendanceRate(e.getKey(), a, r, rate(a, r)));
+            attended += a;
+            rosterSize += r;
+        }
+        return new SessionAttendanceRate(sessionId, attended, rosterSize, rate(attended, rosterSize), rows);
+    }
+
+    /** 출석 기록이 있는 모든 세션의 합계 (구역별 내역 없음) */
+    public List<SessionAttendanceRate> getAllSessionRates() {
+        int rosterSize = participants.countByDistrict().values().stream().mapToInt(Integer::intValue).sum();
+        List<SessionAttendanceRate> result = new ArrayList<>();
+        counts.countBySession().forEach((sessionId, attended) ->
+                result.add(new SessionAttendanceRate(sessionId, attended, rosterSize, rate(attended, rosterSize), List.of())));
+        return result;
+    }
+
+    /**
+     * DB를 직접 고친 뒤 집계를 처음부터 다시 만든다.
+     * 메모리 명단도 다시 읽어 구역별 인원을 맞춘다.
+     */
+    public Map<String, Object> rebuild() {
+        long started = System.nanoTime();
+        participants.reloadRoster();
+        int rows = counts.rebuild();
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        log.info("출석 집계 재계산 완료 ({}행, {}ms)", rows, millis);
+        return Map.of(
+            "rows", rows,
+            "millis", millis
+        );
+    }
+
+    private static double rate(int attended, int rosterSize) {
+        if (rosterSize == 0) return 0;
+        return Math.round(attended * 10000.0 / rosterSize) / 10000.0;
+    }
+}
@@ -0,0 +1,8 @@
+package com.yourco.qrcheckin.stats.model;
+
+public record DistrictAttendanceRate(
+    String district,
+    int attended,
+    int rosterSize,
+    double rate
+) {}
@@ -0,0 +1,12 @@
+package com.yourco.qrcheckin.stats.model;
+
+import java.util.List;
+
+// rate = attended / rosterSize (명단이 비어 있으면 0), districts 는 세션 하나를 조회할 때만 채운다
+public record SessionAttendanceRate(
+    String sessionId,
+    int attended,
+    int rosterSize,
+    double rate,
+    List<DistrictAttendanceRate> districts
+) {}
@@ -1,26 +1,32 @@
 package com.yourco.qrcheckin.upload;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.yourco.qrcheckin.infra.image.ImageFormat;
+import com.yourco.qrcheckin.upload.model.StoredUpload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/admin/upload")
 public class UploadController {
 
-    @Value("${app.upload.path:/app/data/uploads}")
-    private String uploadPath;
+    private static final Logger log = LoggerFactory.getLogger(UploadController.class);
+
+    private final UploadStorage storage;
+
+    public UploadController(UploadStorage storage) {
+        this.storage = storage;
+    }
 
     @PostMapping("/logo")
-    public ResponseEntity<Map<String, String>> uploadLogo(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<Map<String, Object>> uploadLogo(@RequestParam("file") MultipartFile file) {
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().body(Map.of("error", "파일이 비어있습니다."));
         }
@@ -31,32 +37,39 @@ public class UploadController {
             return ResponseEntity.badRequest().body(Map.of("error", "이미지 파일만 업로드 가능합니다."));
         }
 
-        try {
-            // 업로드 디렉토리 생성
-            Path uploadDir = Paths.get(uploadPath);
-            if (!Files.exists(uploadDir)) {
-                Files.createDirectories(uploadDir);
-            }
-
-            // 고유 파일명 생성
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String newFilename = "logo-" + UUID.randomUUID().toString().substring(0, 8) + extension;
-
-            // 파일 저장
-            Path filePath = uploadDir.resolve(newFilename);
-            Files.write(filePath, file.getBytes());
-
-            // URL 반환
-            String url = "/api/uploads/" + newFilename;
-            return ResponseEntity.ok(Map.of("url", url));
-
+        StoredUpload stored;
+        try (InputStream in = file.getInputStream()) {
+            // 메모리에 올리지 않고 디스크로 흘려 쓴다 (이름 = 내용 해시)
+            stored = storage.store(in, file.getOriginalFilename());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (IOException e) {
             return ResponseEntity.internalServerError().body(Map.of("error", "파일 저장 실패: " + e.getMessage()));
         }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("url", UploadFileController.URL_PREFIX + stored.name());
+        body.put("deduplicated", stored.deduplicated());
+
+        // 체크인 화면에서 쓸 축소본은 미리 만들어 둔다 (실패해도 원본 업로드는 성공)
+        if (storage.isResizable(stored.name())) {
+            Map<String, String> variants = new LinkedHashMap<>();
+            for (int width : storage.derivativeWidths()) {
+                try {
+                    storage.derivative(stored.name(), width, ImageFormat.PNG);
+                    variants.put(Integer.toString(width), UploadFileController.derivativeUrl(stored.name(), width, ImageFormat.PNG));
+                } catch (RuntimeException e) {
+                    log.warn("축소본 생성 실패: {} ({}px)", stored.name(), width, e);
+                    break;
+                }
+            }
+            body.put("variants", variants);
+        }
+        return ResponseEntity.ok(body);
     }
-}
 
+    @GetMapping("/stats")
+    public Map<String, Object> stats() {
+        return storage.stats();
+    }
+}
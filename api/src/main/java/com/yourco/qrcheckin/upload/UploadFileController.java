@@ -0,0 +1,58 @@
+package com.yourco.qrcheckin.upload;
+
+import com.yourco.qrcheckin.infra.image.ImageFormat;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 축소본. 원본은 WebConfig 의 /api/uploads/** 리소스 핸들러가 서빙한다.
+ * 예: /api/uploads/{name}/w128.png
+ */
+@RestController
+@RequestMapping("/api/uploads")
+public class UploadFileController {
+
+    // 이름이 내용 해시라 URL이 가리키는 내용은 바뀌지 않는다
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private final UploadStorage storage;
+
+    public UploadFileController(UploadStorage storage) {
+        this.storage = storage;
+    }
+
+    static final String URL_PREFIX = "/api/uploads/";
+
+    static String derivativeUrl(String name, int width, ImageFormat format) {
+        return URL_PREFIX + name + "/w" + width + "." + format.extension();
+    }
+
+    @GetMapping("/{name}/w{width:\\d+}.{format}")
+    public ResponseEntity<Resource> derivative(@PathVariable String name,
+                                               @PathVariable int width,
+                                               @PathVariable String format) {
+        ImageFormat fmt;
+        try {
+            fmt = ImageFormat.parse(format);
+            return storage.derivative(name, width, fmt)
+                    .map(path -> ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(fmt.contentType()))
+                            .cacheControl(IMMUTABLE)
+                            .<Resource>body(new FileSystemResource(path)))
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
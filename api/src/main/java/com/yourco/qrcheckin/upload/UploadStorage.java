@@ -0,0 +1,225 @@
+package com.yourco.qrcheckin.upload;
+
+import com.yourco.qrcheckin.infra.image.ImageFormat;
+import com.yourco.qrcheckin.infra.image.ImageResizer;
+import com.yourco.qrcheckin.upload.model.StoredUpload;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 저장소.
+ * - 업로드는 메모리에 올리지 않고 임시 파일로 흘려 쓰면서 SHA-256을 계산하고, 해시를 파일 이름으로 쓴다.
+ *   같은 내용을 다시 올리면 기존 파일을 그대로 쓴다. 이름이 내용으로 정해지므로 오래 캐시해도 된다.
+ * - 축소본(derived/)은 처음 요청될 때 한 번 만들어 디스크에 둔다. 동시에 같은 축소본을 요청하면 한 번만 만든다.
+ * 파일은 서빙하지 않는 옆 디렉토리(<path>-tmp)에 다 쓴 뒤 rename 하므로 읽는 쪽은 반쯤 쓰인 파일을 보지 않는다.
+ * 이미지는 저장하기 전에 크기(가로x세로)를 확인해 너무 크면 거절한다.
+ */
+@Component
+public class UploadStorage {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,127}");
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,5}");
+    // ImageIO 로 읽을 수 있는 형식만 축소본을 만든다
+    private static final Set<String> RESIZABLE = Set.of("png", "jpg", "jpeg", "gif", "bmp");
+
+    private final ImageResizer resizer;
+
+    @Value("${app.upload.path:/app/data/uploads}")
+    private String uploadPath;
+
+    @Value("${app.upload.derivative-widths:64,128,256,512}")
+    private Set<Integer> derivativeWidths;
+
+    private Path dir;
+    private Path derivedDir;
+    // 같은 파일시스템이어야 rename 이 원자적이므로 업로드 디렉토리 옆에 둔다
+    private Path tmpDir;
+
+    private final ConcurrentHashMap<Path, CompletableFuture<Path>> generating = new ConcurrentHashMap<>();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder derivativesGenerated = new LongAdder();
+
+    public UploadStorage(ImageResizer resizer) {
+        this.resizer = resizer;
+    }
+
+    @PostConstruct
+    void init() {
+        // 디렉토리는 처음 쓸 때 만든다
+        dir = Paths.get(uploadPath).toAbsolutePath().normalize();
+        derivedDir = dir.resolve("derived");
+        tmpDir = dir.resolveSibling(dir.getFileName() + "-tmp");
+    }
+
+    /**
+     * @throws IllegalArgumentException 이미지가 max-image-pixels 보다 클 때
+     */
+    public StoredUpload store(InputStream in, String originalFilename) throws IOException {
+        String extension = extensionOf(originalFilename);
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(tmpDir(), "upload-", ".tmp");
+        try {
+            MessageDigest sha256 = sha256();
+            try (InputStream digesting = new DigestInputStream(in, sha256)) {
+                Files.copy(digesting, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (RESIZABLE.contains(extension)) resizer.checkSize(tmp);
+            String hash = HexFormat.of().formatHex(sha256.digest()).substring(0, 32);
+            String name = extension.isEmpty() ? hash : hash + "." + extension;
+
+            Path target = dir.resolve(name);
+            if (Files.exists(target)) {
+                deduplicated.increment();
+                return new StoredUpload(name, hash, true);
+            }
+            // 같은 내용을 동시에 올려도 rename 은 내용이 같은 파일로 덮어쓸 뿐
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            stored.increment();
+            return new StoredUpload(name, hash, false);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public boolean isResizable(String name) {
+        return RESIZABLE.contains(extensionOf(name));
+    }
+
+    public Set<Integer> derivativeWidths() {
+        return derivativeWidths;
+    }
+
+    /**
+     * 축소본 경로. 없으면 만든다.
+     * @return 원본이 없으면 empty
+     */
+    public Optional<Path> derivative(String name, int width, ImageFormat format) {
+        if (!derivativeWidths.contains(width)) {
+            throw new IllegalArgumentException("지원하지 않는 크기입니다: " + width + " " + derivativeWidths);
+        }
+        Path original = resolve(name);
+        if (!isResizable(name)) {
+            throw new IllegalArgumentException("축소본을 만들 수 없는 형식입니다: " + name);
+        }
+        if (!Files.isRegularFile(original)) return Optional.empty();
+
+        Path target = derivedDir.resolve(name + "-w" + width + "." + format.extension());
+        if (Files.isRegularFile(target)) return Optional.of(target);
+
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> existing = generating.putIfAbsent(target, mine);
+        if (existing != null) return Optional.of(await(existing));
+
+        try {
+            if (!Files.isRegularFile(target)) {
+                Files.createDirectories(derivedDir);
+                Path tmp = Files.createTempFile(tmpDir(), "derive-", ".tmp");
+                try {
+                    resizer.resize(original, tmp, width, format);
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                    derivativesGenerated.increment();
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+            mine.complete(target);
+            return Optional.of(target);
+        } catch (IOException e) {
+            mine.completeExceptionally(e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            generating.remove(target, mine);
+        }
+    }
+
+    /**
+     * 업로드 URL(/api/uploads/{name}) 의 축소본 URL (너비 순).
+     * 업로드 파일이 아니거나 축소본을 만들 수 없는 형식이면 빈 맵.
+     */
+    public Map<Integer, String> derivativeUrls(String url) {
+        if (url == null || !url.startsWith(UploadFileController.URL_PREFIX)) return Map.of();
+        String name = url.substring(UploadFileController.URL_PREFIX.length());
+        if (!NAME.matcher(name).matches() || !isResizable(name)) return Map.of();
+
+        Map<Integer, String> urls = new TreeMap<>();
+        for (int width : derivativeWidths) {
+            urls.put(width, UploadFileController.derivativeUrl(name, width, ImageFormat.PNG));
+        }
+        return urls;
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+            "stored", stored.sum(),
+            "deduplicated", deduplicated.sum(),
+            "derivativesGenerated", derivativesGenerated.sum(),
+            "generating", generating.size()
+        );
+    }
+
+    // 업로드 디렉토리 밖을 가리키지 못하게
+    private Path resolve(String name) {
+        if (name == null || !NAME.matcher(name).matches() || name.contains("..")) {
+            throw new IllegalArgumentException("잘못된 파일 이름입니다: " + name);
+        }
+        return dir.resolve(name);
+    }
+
+    private Path tmpDir() throws IOException {
+        Files.createDirectories(tmpDir);
+        return tmpDir;
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null) return "";
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0) return "";
+        String ext = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(ext).matches() ? ext : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path await(CompletableFuture<Path> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof IOException io) throw new UncheckedIOException(io);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.yourco.qrcheckin.upload.model;
+
+/**
+ * 저장된 업로드 파일. name = 내용 해시 + 확장자.
+ * deduplicated 면 같은 내용의 파일이 이미 있어 새로 쓰지 않았다.
+ */
+public record StoredUpload(String name, String hash, boolean deduplicated) {}
@@ -1,6 +1,7 @@
 CREATE TABLE IF NOT EXISTS participants (
   id            INTEGER PRIMARY KEY AUTOINCREMENT,
   name          TEXT NOT NULL,
+  phone         TEXT DEFAULT '',
   phone_hash    TEXT NOT NULL,
   phone_last4   TEXT NOT NULL,
   baptismal_name TEXT DEFAULT '',
@@ -45,8 +46,38 @@ CREATE TABLE IF NOT EXISTS attendances (
   checked_in_at  TEXT NOT NULL,
   ip             TEXT,
   user_agent     TEXT,
+  district       TEXT DEFAULT '',
   UNIQUE(session_id, participant_id)
 );
 
--- 기존 테이블에 새 컬럼 추가 (이미 있으면 무시)
--- SQLite는 IF NOT EXISTS를 지원하지 않으므로 에러 발생 시 무시됨
+-- 출석 목록 keyset 페이지: (checked_in_at, id) 순서로 limit 건만 읽기
+CREATE INDEX IF NOT EXISTS idx_attendances_checked_in
+  ON attendances(checked_in_at, id);
+CREATE INDEX IF NOT EXISTS idx_attendances_session_checked_in
+  ON attendances(session_id, checked_in_at, id);
+
+-- 세션/구역별 출석 인원 집계 (출석 insert/delete 와 같은 트랜잭션에서 증감)
+CREATE TABLE IF NOT EXISTS attendance_counts (
+  session_id TEXT NOT NULL,
+  district   TEXT NOT NULL,
+  attended   INTEGER NOT NULL,
+  PRIMARY KEY (session_id, district)
+) WITHOUT ROWID;
+
+-- 출석 기록 대량 삭제 작업 (청크 단위로 지우며 진행 상황 기록, 재시작하면 RUNNING 작업을 이어서 진행)
+CREATE TABLE IF NOT EXISTS attendance_purge_jobs (
+  id            INTEGER PRIMARY KEY AUTOINCREMENT,
+  reason        TEXT NOT NULL,
+  range_start   TEXT NOT NULL,
+  range_end     TEXT NOT NULL,
+  status        TEXT NOT NULL,
+  total         INTEGER NOT NULL,
+  deleted       INTEGER NOT NULL DEFAULT 0,
+  error         TEXT,
+  archive_status TEXT,
+  archived      INTEGER DEFAULT 0,
+  created_at    TEXT NOT NULL,
+  updated_at    TEXT NOT NULL
+);
+
+-- 예전 DB 에 없는 컬럼은 SchemaInitConfig 가 pragma table_info 로 확인한 뒤 추가한다
@@ -0,0 +1,40 @@
+package com.yourco.qrcheckin.attendance.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 삭제 범위는 "yyyy-MM-dd" (또는 checked_in_at 전체) 로 들어오고 파티션 경계는 "yyyy-MM"/"yyyy" 다.
+ */
+class AttendancePartitionTest {
+
+    private static final AttendancePartition JAN = new AttendancePartition("attendances_202501", "2025-01", "2025-02");
+    private static final AttendancePartition FEB = new AttendancePartition("attendances_202502", "2025-02", "2025-03");
+    private static final AttendancePartition YEAR = new AttendancePartition("attendances_2025", "2025", "2026");
+    private static final AttendancePartition LEGACY = new AttendancePartition("attendances", null, null);
+
+    @Test
+    void rangeStartingOnFirstDayContainsWholePartition() {
+        assertTrue(JAN.within("2025-01-01", "2025-02-01"));
+        assertTrue(JAN.within(null, "2025-02-01"));
+        assertTrue(YEAR.within("2025-01-01", "2026-01-01"));
+        assertFalse(JAN.within("2025-01-02", "2025-02-01"));
+        assertFalse(JAN.within(null, "2025-01-31"));
+        assertFalse(YEAR.within("2025-01-01", "2025-12-31"));
+        assertFalse(JAN.within(null, null));
+        assertFalse(LEGACY.within(null, "2030-01-01"));
+    }
+
+    @Test
+    void rangeEndingOnFirstDayDoesNotOverlapNextPartition() {
+        assertFalse(FEB.overlaps("2025-01-01", "2025-02-01"));
+        assertTrue(JAN.overlaps("2025-01-31 23:59", "2025-02-01"));
+        assertTrue(FEB.overlaps("2025-02-01 10:00", null));
+        assertFalse(JAN.overlaps("2025-02-01 10:00", null));
+        assertTrue(JAN.overlaps(null, "2025-01-01 00:01"));
+        assertFalse(JAN.overlaps(null, "2025-01-01"));
+        assertTrue(LEGACY.overlaps("2025-01-01", "2025-02-01"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.yourco.qrcheckin.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * DB에 저장된 해시와 비교하므로 예전 구현과 바이트 단위로 같아야 한다.
+ */
+class HashingServiceTest {
+
+    private static final String SALT = "test-salt";
+
+    // 예전 구현과 상관없이 값 자체를 고정 (sha256("<input>|test-salt"))
+    @Test
+    void fixedVectors() {
+        HashingService hashing = new HashingService(SALT);
+        assertEquals("6c14f8ef38049c7db67e467dc50e7cda4b3e7231cbe979f821568f8fa989d85c", hashing.sha256("01012345678"));
+        assertEquals("2410b4b6c6dc6c7f2db3a8dd2165b004ad7a7f263420f6e8073807c2e37bdb0e", hashing.sha256(""));
+        assertEquals("b964d72ec3556ab98914187a96311fd1b9371cef1dc2644f7ee6e2667c9d7d67", hashing.sha256("홍길동"));
+    }
+
+    @Test
+    void sameAsLegacy() {
+        List<String> inputs = new ArrayList<>(List.of(
+                "", "0", "01012345678", "010-1234-5678", " 010 1234 5678 ",
+                "홍길동", "김철수01012345678", "😀", "a😀b",
+                "\uD83D", "x\uDE00", "\uDE00\uD83D", "end\uD83D",
+                "a".repeat(255), "a".repeat(256), "a".repeat(257), "가".repeat(300)
+        ));
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) inputs.add(randomString(random));
+
+        for (String salt : List.of(SALT, "", "소금", "\uDE00salt")) {
+            HashingService hashing = new HashingService(salt);
+            for (String input : inputs) {
+                assertEquals(legacySha256(input, salt), hashing.sha256(input), () -> "[" + input + "]");
+            }
+        }
+    }
+
+    @Test
+    void concurrentCallsDoNotShareState() throws Exception {
+        HashingService hashing = new HashingService(SALT);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                futures.add(pool.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 2000; i++) {
+                        String input = randomString(random);
+                        assertEquals(legacySha256(input, SALT), hashing.sha256(input));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static String randomString(Random random) {
+        int len = random.nextInt(40);
+        StringBuilder sb = new StringBuilder(len);
+        for (int i = 0; i < len; i++) {
+            switch (random.nextInt(4)) {
+                case 0 -> sb.append((char) ('0' + random.nextInt(10)));
+                case 1 -> sb.append((char) (0x20 + random.nextInt(0x5f)));
+                case 2 -> sb.append((char) (0xAC00 + random.nextInt(11172)));
+                default -> sb.append((char) random.nextInt(0x10000));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 예전 HashingService.sha256
+    private static String legacySha256(String input, String salt) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest((input + "|" + salt).getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (Exception e) {
+            throw new IllegalStateException("hash failed", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.yourco.qrcheckin.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 정규화한 번호로 해시를 만들므로 예전 구현(정규식)과 결과가 같아야 한다.
+ */
+class PhoneNormalizerTest {
+
+    @Test
+    void fixedVectors() {
+        assertEquals("", PhoneNormalizer.normalize(null));
+        assertEquals("", PhoneNormalizer.normalize(""));
+        assertEquals("01012345678", PhoneNormalizer.normalize("01012345678"));
+        assertEquals("01012345678", PhoneNormalizer.normalize("010-1234-5678"));
+        assertEquals("01012345678", PhoneNormalizer.normalize(" +(010) 1234.5678 "));
+        assertEquals("", PhoneNormalizer.normalize("없음"));
+        // 전각/아랍 숫자는 0-9 가 아니므로 지운다
+        assertEquals("1", PhoneNormalizer.normalize("０1٣"));
+    }
+
+    @Test
+    void sameAsLegacy() {
+        List<String> inputs = new ArrayList<>(List.of("010", "010-", "-010", "--", "010 1234 5678", "☎ 010.1234.5678"));
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            int len = random.nextInt(20);
+            StringBuilder sb = new StringBuilder(len);
+            for (int j = 0; j < len; j++) {
+                sb.append(random.nextInt(3) == 0 ? (char) random.nextInt(0x10000) : (char) ('0' + random.nextInt(10)));
+            }
+            inputs.add(sb.toString());
+        }
+        for (String input : inputs) {
+            assertEquals(legacyNormalize(input), PhoneNormalizer.normalize(input), () -> "[" + input + "]");
+        }
+    }
+
+    @Test
+    void last4() {
+        assertEquals("5678", PhoneNormalizer.last4("01012345678"));
+        assertEquals("123", PhoneNormalizer.last4("123"));
+    }
+
+    // 예전 PhoneNormalizer.normalize
+    private static String legacyNormalize(String phone) {
+        if (phone == null) return "";
+        return phone.replaceAll("[^0-9]", "");
+    }
+}
@@ -0,0 +1,116 @@
+package com.yourco.qrcheckin.infra.archive;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 보관 파일 형식이므로 쓴 값이 그대로 읽혀야 한다 (사전 번호, zigzag varint, gzip).
+ */
+class ColumnarSegmentTest {
+
+    private static final List<String> STRINGS = List.of("session_id", "district", "name");
+    private static final List<String> LONGS = List.of("id", "participant_id");
+
+    @Test
+    void roundTrip() throws IOException {
+        Random random = new Random(11);
+        int rows = 1000; // 처음 용량(64)을 넘겨 grow 도 거친다
+        String[][] strings = new String[rows][];
+        long[][] longs = new long[rows][];
+        String[] names = {"홍길동", "", "Kim", "😀이모지", "\uD800깨진", "a".repeat(300)};
+        long[] edges = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MAX_VALUE + 1L};
+        ColumnarSegment.Builder builder = new ColumnarSegment.Builder(STRINGS, LONGS);
+        for (int i = 0; i < rows; i++) {
+            strings[i] = new String[]{"2026-01-0" + (i % 3 + 1) + "-주일미사", (i % 30 + 1) + "구역", names[i % names.length]};
+            longs[i] = new long[]{i + 1, i < edges.length ? edges[i] : random.nextLong()};
+            builder.add(strings[i], longs[i]);
+        }
+        assertEquals(rows, builder.size());
+
+        byte[] bytes = write(builder);
+        assertEquals(rows, ColumnarSegment.readRowCount(new ByteArrayInputStream(bytes)));
+
+        ColumnarSegment.Data data = ColumnarSegment.read(new ByteArrayInputStream(bytes),
+                Set.of("session_id", "district", "name", "id", "participant_id"));
+        assertEquals(rows, data.rows());
+        for (int c = 0; c < STRINGS.size(); c++) {
+            String[] column = data.strings(STRINGS.get(c));
+            for (int i = 0; i < rows; i++) assertEquals(strings[i][c], column[i], STRINGS.get(c) + " " + i);
+        }
+        for (int c = 0; c < LONGS.size(); c++) {
+            long[] column = data.longs(LONGS.get(c));
+            for (int i = 0; i < rows; i++) assertEquals(longs[i][c], column[i], LONGS.get(c) + " " + i);
+        }
+        // 같은 값은 사전의 같은 인스턴스
+        String[] districts = data.strings("district");
+        assertSame(districts[0], districts[30]);
+    }
+
+    @Test
+    void nullIsStoredAsEmpty() throws IOException {
+        ColumnarSegment.Builder builder = new ColumnarSegment.Builder(List.of("s"), List.of());
+        builder.add(new String[]{null}, new long[0]);
+        ColumnarSegment.Data data = ColumnarSegment.read(new ByteArrayInputStream(write(builder)), Set.of("s"));
+        assertArrayEquals(new String[]{""}, data.strings("s"));
+    }
+
+    @Test
+    void readsOnlyRequestedColumns() throws IOException {
+        ColumnarSegment.Builder builder = new ColumnarSegment.Builder(STRINGS, LONGS);
+        builder.add(new String[]{"s1", "1구역", "홍길동"}, new long[]{1, 10});
+        builder.add(new String[]{"s1", "2구역", "김철수"}, new long[]{2, 7});
+
+        ColumnarSegment.Data data = ColumnarSegment.read(new ByteArrayInputStream(write(builder)), Set.of("district", "id"));
+        assertArrayEquals(new String[]{"1구역", "2구역"}, data.strings("district"));
+        assertArrayEquals(new long[]{1, 2}, data.longs("id"));
+        assertFalse(data.strings().containsKey("name"));
+        assertThrows(IllegalArgumentException.class, () -> data.strings("name"));
+        assertThrows(IllegalArgumentException.class, () -> data.longs("participant_id"));
+    }
+
+    @Test
+    void emptySegment() throws IOException {
+        ColumnarSegment.Builder builder = new ColumnarSegment.Builder(STRINGS, LONGS);
+        ColumnarSegment.Data data = ColumnarSegment.read(new ByteArrayInputStream(write(builder)), Set.of("name", "id"));
+        assertEquals(0, data.rows());
+        assertEquals(0, data.strings("name").length);
+        assertEquals(0, data.longs("id").length);
+    }
+
+    @Test
+    void rejectsBadInput() throws IOException {
+        ColumnarSegment.Builder builder = new ColumnarSegment.Builder(STRINGS, LONGS);
+        assertThrows(IllegalArgumentException.class, () -> builder.add(new String[]{"s1"}, new long[]{1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(new String[]{"s1", "d", "n"}, new long[]{1}));
+
+        byte[] bytes = write(builder);
+        assertThrows(IllegalArgumentException.class,
+                () -> ColumnarSegment.read(new ByteArrayInputStream(bytes), Set.of("unknown")));
+
+        ByteArrayOutputStream notSegment = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(notSegment)) {
+            gzip.write(new byte[]{1, 2, 3, 4, 0, 0, 0, 0});
+        }
+        assertThrows(IOException.class,
+                () -> ColumnarSegment.readRowCount(new ByteArrayInputStream(notSegment.toByteArray())));
+    }
+
+    private static byte[] write(ColumnarSegment.Builder builder) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        builder.writeTo(out);
+        return out.toByteArray();
+    }
+}
@@ -1,5 +1,3 @@
-import * as XLSX from 'xlsx'
-
 // 출석 기록
 export type AttendanceRecord = {
   id: number
@@ -25,50 +23,74 @@ export async function getAttendances(sessionId?: string): Promise<AttendanceReco
   return resp.json()
 }
 
-// 엑셀 다운로드 (xlsx 형식)
-export function downloadAttendancesExcel(attendances: AttendanceRecord[], filename?: string) {
-  // 데이터 준비
-  const data = attendances.map((att, idx) => ({
-    '번호': idx + 1,
-    '이름': att.name,
-    '구역': att.district || '-',
-    '전화번호': formatPhone(att.phone),
-    '출석 시간': att.checkedInAt,
-    '세션': att.sessionTitle,
-  }))
+// 출석 목록 페이지 (최신순)
+export type AttendanceFeed = {
+  items: AttendanceRecord[]
+  nextCursor: string | null    // 더 오래된 기록: before=nextCursor
+  latestCursor: string | null  // 새로 추가된 기록만: since=latestCursor
+  hasMore: boolean
+}
 
-  // 워크시트 생성
-  const ws = XLSX.utils.json_to_sheet(data)
+export async function getAttendanceFeed(options: {
+  sessionId?: string
+  before?: string
+  since?: string
+  limit?: number
+}): Promise<AttendanceFeed> {
+  const params = new URLSearchParams()
+  if (options.sessionId) params.set('sessionId', options.sessionId)
+  if (options.before) params.set('before', options.before)
+  if (options.since) params.set('since', options.since)
+  if (options.limit) params.set('limit', String(options.limit))
 
-  // 컬럼 너비 설정
-  ws['!cols'] = [
-    { wch: 6 },   // 번호
-    { wch: 12 },  // 이름
-    { wch: 10 },  // 구역
-    { wch: 15 },  // 전화번호
-    { wch: 18 },  // 출석 시간
-    { wch: 20 },  // 세션
-  ]
+  const resp = await fetch(`/api/admin/attendances/feed?${params}`)
+  if (!resp.ok) return { items: [], nextCursor: null, latestCursor: options.since ?? null, hasMore: false }
+  return resp.json()
+}
 
-  // 워크북 생성
-  const wb = XLSX.utils.book_new()
-  XLSX.utils.book_append_sheet(wb, ws, '출석내역')
+// 실시간 출석 현황 (SSE)
+export type AttendanceLiveEvent = {
+  sessionId: string
+  count: number
+  names: string[]  // 지난 이벤트 이후 새로 출석한 사람
+}
 
-  // 파일 다운로드
-  const defaultFilename = `출석내역_${new Date().toISOString().split('T')[0]}.xlsx`
-  XLSX.writeFile(wb, filename || defaultFilename)
+// 구독 해제 함수를 돌려줌. 연결이 끊기면 브라우저가 자동 재접속
+export function subscribeAttendanceLive(
+  sessionId: string,
+  onEvent: (event: AttendanceLiveEvent) => void,
+): () => void {
+  const source = new EventSource(`/api/admin/attendances/stream?sessionId=${encodeURIComponent(sessionId)}`)
+  source.addEventListener('attendance', (e) => {
+    onEvent(JSON.parse((e as MessageEvent).data))
+  })
+  return () => source.close()
 }
 
-// 전화번호 포맷팅
-function formatPhone(phone: string): string {
-  if (!phone) return ''
-  const cleaned = phone.replace(/\D/g, '')
-  if (cleaned.length === 11) {
-    return `${cleaned.slice(0, 3)}-${cleaned.slice(3, 7)}-${cleaned.slice(7)}`
-  } else if (cleaned.length === 10) {
-    return `${cleaned.slice(0, 3)}-${cleaned.slice(3, 6)}-${cleaned.slice(6)}`
-  }
-  return phone
+// 엑셀/CSV 다운로드 (서버에서 바로 만들어 내려줌)
+export type AttendanceExportOptions = {
+  format?: 'xlsx' | 'csv'
+  sessionId?: string
+  startDate?: string  // yyyy-MM-dd
+  endDate?: string    // yyyy-MM-dd (포함)
+  district?: string
+}
+
+export function attendanceExportUrl(options: AttendanceExportOptions = {}): string {
+  const params = new URLSearchParams()
+  Object.entries(options).forEach(([key, value]) => {
+    if (value) params.set(key, value)
+  })
+  return `/api/admin/attendances/export?${params}`
+}
+
+export function downloadAttendances(options: AttendanceExportOptions = {}) {
+  const a = document.createElement('a')
+  a.href = attendanceExportUrl(options)
+  a.download = ''
+  document.body.appendChild(a)
+  a.click()
+  a.remove()
 }
 
 // 출석 내역 삭제 결과
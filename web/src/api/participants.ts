@@ -57,10 +57,19 @@ export async function deleteParticipant(id: number): Promise<void> {
 }
 
 // Excel 파일 업로드
+export type ImportTimings = {
+  preloadMillis: number
+  parseMillis: number
+  hashMillis: number
+  insertMillis: number
+  totalMillis: number
+}
+
 export type ImportResult = {
   totalRows: number
   inserted: number
   skipped: number
+  timings?: ImportTimings
 }
 
 export async function uploadParticipantsExcel(
@@ -22,6 +22,23 @@ export async function getSimpleCheckinMode(): Promise<boolean> {
   }
 }
 
+export type LogoInfo = {
+  url: string
+  variants: Record<string, string> // 너비(px) -> 축소본 URL
+}
+
+// 로고 조회 (설정된 로고가 없으면 null)
+export async function getLogo(): Promise<LogoInfo | null> {
+  try {
+    const resp = await fetch('/api/settings/logo')
+    if (!resp.ok) return null
+    const data = await resp.json()
+    return data.url ? { url: data.url, variants: data.variants || {} } : null
+  } catch {
+    return null
+  }
+}
+
 // 로고 이미지 업로드
 export async function uploadLogo(file: File): Promise<string> {
   const formData = new FormData()
@@ -1,3 +1,5 @@
+import { useChurch } from '../context/ChurchContext'
+
 type LogoProps = {
   size?: 'small' | 'medium' | 'large' | 'xlarge'
   style?: React.CSSProperties
@@ -11,11 +13,24 @@ const sizes = {
 }
 
 export default function Logo({ size = 'medium', style }: LogoProps) {
+  const { logo } = useChurch()
   const pixelSize = sizes[size]
 
+  // 업로드한 로고는 축소본 중 화면 밀도에 맞는 것만 받는다 (원본은 축소본이 없을 때만)
+  const variants = logo
+    ? Object.entries(logo.variants)
+        .map(([width, url]) => ({ width: Number(width), url }))
+        .sort((a, b) => a.width - b.width)
+    : []
+  const fallback = variants.find((v) => v.width >= pixelSize * 2) ?? variants[variants.length - 1]
+  const src = logo ? (fallback?.url ?? logo.url) : '/logo.png'
+  const srcSet = variants.length > 0 ? variants.map((v) => `${v.url} ${v.width}w`).join(', ') : undefined
+
   return (
     <img
-      src="/logo.png"
+      src={src}
+      srcSet={srcSet}
+      sizes={srcSet ? `${pixelSize}px` : undefined}
       alt="로고"
       style={{
         width: pixelSize,
@@ -26,4 +41,3 @@ export default function Logo({ size = 'medium', style }: LogoProps) {
     />
   )
 }
-
@@ -1,25 +1,30 @@
 import { createContext, useContext, useEffect, useState } from 'react'
 import type { ReactNode } from 'react'
-import { getChurchName, getAllSettings } from '../api/settings'
+import { getChurchName, getAllSettings, getLogo } from '../api/settings'
+import type { LogoInfo } from '../api/settings'
 
 type ChurchContextType = {
   churchName: string
+  logo: LogoInfo | null
   loading: boolean
   refresh: () => void
 }
 
 const ChurchContext = createContext<ChurchContextType>({
   churchName: '구역',
+  logo: null,
   loading: true,
   refresh: () => {},
 })
 
 export function ChurchProvider({ children }: { children: ReactNode }) {
   const [churchName, setChurchName] = useState('구역')
+  const [logo, setLogo] = useState<LogoInfo | null>(null)
   const [loading, setLoading] = useState(true)
 
   async function loadSettings() {
     setLoading(true)
+    getLogo().then(setLogo)
     try {
       const settings = await getAllSettings()
       setChurchName(settings.church_name || '구역')
@@ -37,7 +42,7 @@ export function ChurchProvider({ children }: { children: ReactNode }) {
   }, [])
 
   return (
-    <ChurchContext.Provider value={{ churchName, loading, refresh: loadSettings }}>
+    <ChurchContext.Provider value={{ churchName, logo, loading, refresh: loadSettings }}>
       {children}
     </ChurchContext.Provider>
   )
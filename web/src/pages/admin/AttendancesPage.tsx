@@ -1,7 +1,7 @@
 import { useEffect, useState } from 'react'
 import { Link } from 'react-router-dom'
-import { getAttendances, downloadAttendancesExcel, deleteAttendancesByDateRange, deleteAttendancesBySession } from '../../api/attendance'
-import type { AttendanceRecord } from '../../api/attendance'
+import { getAttendances, getAttendanceFeed, downloadAttendances, deleteAttendancesByDateRange, deleteAttendancesBySession } from '../../api/attendance'
+import type { AttendanceFeed, AttendanceRecord } from '../../api/attendance'
 import { getParticipants } from '../../api/participants'
 import type { Participant } from '../../api/participants'
 import { getSessions } from '../../api/sessions'
@@ -22,6 +22,8 @@ function formatPhoneDisplay(phone: string): string {
 
 type ViewMode = 'list' | 'district'
 
+const PAGE_SIZE = 200
+
 // 구역별 출석 현황 타입
 type DistrictStatus = {
   district: string
@@ -42,6 +44,11 @@ export default function AttendancesPage() {
   const [loading, setLoading] = useState(true)
   const [selectedSessionId, setSelectedSessionId] = useState('')
   const [viewMode, setViewMode] = useState<ViewMode>('list')
+
+  // 목록 보기 페이지 상태 (더 보기 / 새로 추가된 것만 받기)
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [latestCursor, setLatestCursor] = useState<string | null>(null)
+  const [loadingMore, setLoadingMore] = useState(false)
   
   // 삭제 관련 상태
   const [showDeleteModal, setShowDeleteModal] = useState(false)
@@ -92,31 +99,83 @@ export default function AttendancesPage() {
       ])
       setSessions(sessionsData)
       setParticipants(participantsData)
-      
-      // 기본적으로 전체 출석 로드
-      const attendancesData = await getAttendances()
-      setAttendances(attendancesData)
     } finally {
       setLoading(false)
     }
+    // 기본적으로 전체 출석의 첫 페이지
+    loadAttendances(undefined, 'list')
   }
 
-  async function loadAttendances(sessionId?: string) {
+  // 목록 보기는 최신 PAGE_SIZE 건만, 구역별 현황은 세션 전체가 필요하므로 전부 받는다
+  async function loadAttendances(sessionId?: string, mode: ViewMode = viewMode) {
     setLoading(true)
     try {
-      const data = await getAttendances(sessionId || undefined)
-      setAttendances(data)
+      if (mode === 'list') {
+        const feed = await getAttendanceFeed({ sessionId, limit: PAGE_SIZE })
+        setAttendances(feed.items)
+        setNextCursor(feed.nextCursor)
+        setLatestCursor(feed.latestCursor)
+      } else {
+        setAttendances(await getAttendances(sessionId))
+        setNextCursor(null)
+        setLatestCursor(null)
+      }
     } finally {
       setLoading(false)
     }
   }
 
+  // 더 오래된 기록 이어서 받기
+  async function loadMore() {
+    if (!nextCursor) return
+    setLoadingMore(true)
+    try {
+      const feed = await getAttendanceFeed({ sessionId: selectedSessionId || undefined, before: nextCursor, limit: PAGE_SIZE })
+      setAttendances(prev => [...prev, ...feed.items])
+      setNextCursor(feed.nextCursor)
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
+  // 새로고침: 목록 보기에서는 마지막으로 받은 뒤 추가된 기록만 위에 붙인다
+  async function refresh() {
+    if (viewMode !== 'list' || !latestCursor) {
+      loadAttendances(selectedSessionId || undefined)
+      return
+    }
+    let cursor: string | null = latestCursor
+    let added: AttendanceRecord[] = []
+    let hasMore = true
+    while (hasMore && cursor) {
+      const feed: AttendanceFeed = await getAttendanceFeed({ sessionId: selectedSessionId || undefined, since: cursor, limit: PAGE_SIZE })
+      added = [...added, ...feed.items]
+      cursor = feed.latestCursor
+      hasMore = feed.hasMore
+    }
+    // since 결과는 오래된 순이므로 뒤집어서 최신순 목록 앞에
+    setAttendances(prev => [...added.reverse(), ...prev])
+    setLatestCursor(cursor)
+  }
+
   // 세션 선택 핸들러
   function handleSessionChange(sessionId: string) {
     setSelectedSessionId(sessionId)
     loadAttendances(sessionId || undefined)
   }
 
+  // 보기 모드 변경
+  function handleViewModeChange(mode: ViewMode) {
+    if (mode === viewMode) return
+    setViewMode(mode)
+    loadAttendances(selectedSessionId || undefined, mode)
+  }
+
+  // 엑셀은 화면에 받은 페이지가 아니라 서버에서 전체를 만들어 내려받는다
+  function handleDownload() {
+    downloadAttendances({ sessionId: selectedSessionId || undefined })
+  }
+
   // 삭제 모달 열기
   function openDeleteModal() {
     setDeleteResult(null)
@@ -257,7 +316,7 @@ export default function AttendancesPage() {
       {/* 보기 모드 탭 */}
       <div style={styles.tabContainer}>
         <button
-          onClick={() => setViewMode('list')}
+          onClick={() => handleViewModeChange('list')}
           style={{
             ...styles.tab,
             ...(viewMode === 'list' ? styles.tabActive : {})
@@ -266,7 +325,7 @@ export default function AttendancesPage() {
           📋 목록 보기
         </button>
         <button
-          onClick={() => setViewMode('district')}
+          onClick={() => handleViewModeChange('district')}
           style={{
             ...styles.tab,
             ...(viewMode === 'district' ? styles.tabActive : {})
@@ -285,7 +344,7 @@ export default function AttendancesPage() {
           <span style={styles.statsValue}>
             {viewMode === 'district' 
               ? `${totalAttended}/${totalMembers}명`
-              : `${attendances.length}명`
+              : `${attendances.length}${nextCursor ? '+' : ''}명`
             }
           </span>
           {viewMode === 'district' && totalMembers > 0 && (
@@ -296,7 +355,7 @@ export default function AttendancesPage() {
         </div>
         <div style={{ display: 'flex', gap: 8, flexWrap: 'wrap' }}>
           <button 
-            onClick={() => downloadAttendancesExcel(attendances)} 
+            onClick={handleDownload} 
             disabled={attendances.length === 0}
             style={{ padding: '10px 16px' }}
           >
@@ -309,7 +368,7 @@ export default function AttendancesPage() {
             🗑️ 삭제
           </button>
           <button 
-            onClick={() => loadAttendances(selectedSessionId || undefined)} 
+            onClick={refresh} 
             className="secondary" 
             style={{ padding: '10px 16px' }}
           >
@@ -360,6 +419,13 @@ export default function AttendancesPage() {
                   ))}
                 </tbody>
               </table>
+              {nextCursor && (
+                <div style={{ textAlign: 'center', padding: 16 }}>
+                  <button onClick={loadMore} disabled={loadingMore} className="secondary">
+                    {loadingMore ? '불러오는 중...' : '더 보기'}
+                  </button>
+                </div>
+              )}
             </div>
           )}
         </div>
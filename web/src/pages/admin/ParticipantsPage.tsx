@@ -320,6 +320,7 @@ export default function ParticipantsPage() {
           <div style={styles.uploadSuccess}>
             ✅ 완료: 총 {uploadResult.totalRows}행 중 
             <strong> {uploadResult.inserted}명 등록</strong>, {uploadResult.skipped}명 스킵
+            {uploadResult.timings && ` (${(uploadResult.timings.totalMillis / 1000).toFixed(1)}초)`}
           </div>
         )}
 
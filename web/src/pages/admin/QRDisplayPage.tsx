@@ -2,6 +2,7 @@ import { useEffect, useState } from 'react'
 import { useParams, Link } from 'react-router-dom'
 import { getSessionWithToken } from '../../api/sessions'
 import type { SessionResponse } from '../../api/sessions'
+import { subscribeAttendanceLive } from '../../api/attendance'
 import { useChurch } from '../../context/ChurchContext'
 import Logo from '../../components/Logo'
 
@@ -12,6 +13,8 @@ export default function QRDisplayPage() {
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState<string | null>(null)
   const [fullscreen, setFullscreen] = useState(false)
+  const [liveCount, setLiveCount] = useState<number | null>(null)
+  const [recentNames, setRecentNames] = useState<string[]>([])
 
   async function loadSession() {
     if (!sessionId) return
@@ -33,6 +36,17 @@ export default function QRDisplayPage() {
     loadSession()
   }, [sessionId])
 
+  // 실시간 출석 인원 (서버가 모아서 보내므로 몰려도 초당 몇 번만 갱신)
+  useEffect(() => {
+    if (!sessionId) return
+    return subscribeAttendanceLive(sessionId, (event) => {
+      setLiveCount(event.count)
+      if (event.names.length > 0) {
+        setRecentNames(prev => [...event.names.slice().reverse(), ...prev].slice(0, 5))
+      }
+    })
+  }, [sessionId])
+
   // ESC 키로 전체화면 해제
   useEffect(() => {
     function handleKeyDown(e: KeyboardEvent) {
@@ -48,9 +62,9 @@ export default function QRDisplayPage() {
     return `${date.getFullYear()}년 ${date.getMonth()+1}월 ${date.getDate()}일 (${days[date.getDay()]})`
   }
 
-  // QR 코드 URL (외부 API 사용)
-  const qrCodeUrl = session?.qrUrl 
-    ? `https://api.qrserver.com/v1/create-qr-code/?size=400x400&data=${encodeURIComponent(session.qrUrl)}`
+  // QR 코드 이미지 (서버에서 렌더링, v=shortCode 로 브라우저 캐시)
+  const qrCodeUrl = session
+    ? `/api/admin/sessions/${encodeURIComponent(session.id)}/qr.png?size=400&v=${session.shortCode}`
     : null
 
   if (loading) {
@@ -87,6 +101,9 @@ export default function QRDisplayPage() {
           </div>
           
           <p style={styles.fullscreenHint}>스마트폰으로 QR 코드를 스캔하세요</p>
+          {liveCount !== null && (
+            <p style={styles.fullscreenCount}>현재 {liveCount}명 출석</p>
+          )}
           <p style={styles.fullscreenEsc}>화면을 터치하거나 ESC를 눌러 닫기</p>
         </div>
       </div>
@@ -115,6 +132,15 @@ export default function QRDisplayPage() {
         }}>
           {session.status === 'ACTIVE' ? '✅ 진행중' : '종료됨'}
         </div>
+
+        {liveCount !== null && (
+          <div style={styles.liveBox}>
+            <div style={styles.liveCount}>{liveCount}명 출석</div>
+            {recentNames.length > 0 && (
+              <div style={styles.liveNames}>방금: {recentNames.join(', ')}</div>
+            )}
+          </div>
+        )}
       </div>
 
       {/* QR 코드 */}
@@ -269,6 +295,21 @@ const styles: { [key: string]: React.CSSProperties } = {
     marginTop: 24,
     textAlign: 'center',
   },
+  liveBox: {
+    marginTop: 20,
+    paddingTop: 16,
+    borderTop: '1px solid var(--color-border)',
+  },
+  liveCount: {
+    fontSize: 24,
+    fontWeight: 700,
+    color: 'var(--color-primary)',
+  },
+  liveNames: {
+    marginTop: 6,
+    fontSize: 14,
+    color: 'var(--color-text-light)',
+  },
   // 전체화면 스타일
   fullscreenContainer: {
     position: 'fixed',
@@ -329,6 +370,12 @@ const styles: { [key: string]: React.CSSProperties } = {
     margin: '0 0 16px 0',
     fontWeight: 500,
   },
+  fullscreenCount: {
+    fontSize: 28,
+    fontWeight: 700,
+    color: 'var(--color-primary)',
+    margin: '0 0 16px 0',
+  },
   fullscreenEsc: {
     fontSize: 14,
     color: 'var(--color-text-light)',
@@ -1,6 +1,6 @@
 import { useEffect, useState } from 'react'
 import { Link } from 'react-router-dom'
-import { getAllSettings, updateSetting } from '../../api/settings'
+import { getAllSettings, updateSetting, uploadLogo } from '../../api/settings'
 import { useChurch } from '../../context/ChurchContext'
 import Logo from '../../components/Logo'
 
@@ -11,6 +11,7 @@ export default function SettingsPage() {
   const [loading, setLoading] = useState(true)
   const [saving, setSaving] = useState(false)
   const [saved, setSaved] = useState(false)
+  const [uploading, setUploading] = useState(false)
 
   async function loadSettings() {
     setLoading(true)
@@ -47,6 +48,24 @@ export default function SettingsPage() {
     }
   }
 
+  // 로고는 고르는 즉시 업로드하고 설정에 반영
+  async function handleLogoChange(e: React.ChangeEvent<HTMLInputElement>) {
+    const file = e.target.files?.[0]
+    e.target.value = ''
+    if (!file) return
+
+    setUploading(true)
+    try {
+      const url = await uploadLogo(file)
+      await updateSetting('logo_url', url)
+      refresh()
+    } catch (err) {
+      alert(err instanceof Error ? err.message : '로고 업로드 실패')
+    } finally {
+      setUploading(false)
+    }
+  }
+
   return (
     <div style={styles.container}>
       {/* 헤더 */}
@@ -74,6 +93,19 @@ export default function SettingsPage() {
             </p>
           </div>
 
+          <div style={styles.inputGroup}>
+            <label style={styles.label}>로고</label>
+            <input
+              type="file"
+              accept="image/png,image/jpeg,image/gif"
+              onChange={handleLogoChange}
+              disabled={uploading}
+            />
+            <p style={styles.hint}>
+              {uploading ? '업로드 중...' : '화면 크기에 맞게 줄인 이미지가 자동으로 사용됩니다.'}
+            </p>
+          </div>
+
           <h3 style={{ ...styles.cardTitle, marginTop: 32 }}>체크인 설정</h3>
 
           <div style={styles.toggleGroup}>